@@ -1,10 +1,17 @@
 package com.restapi.api.account;
 
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Optional;
 
 public interface AccountRepository extends JpaRepository<Account, Integer> {
+
+    String ACCOUNTS_CACHE = "accounts";
+
+    // 로그인과 refresh token 발급마다 조회하므로 이메일로 캐시한다. AccountService.saveAccount 가 비운다.
+    @Cacheable(cacheNames = ACCOUNTS_CACHE, unless = "#result == null")
+    @EntityGraph(attributePaths = "roles")
     Optional<Account> findByEmail(String username);
 }
@@ -1,14 +1,17 @@
 package com.restapi.api.account;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
-public class AccountService implements UserDetailsService {
+public class AccountService implements UserDetailsService, UserDetailsPasswordService {
 
     @Autowired
     AccountRepository accountRepository;
@@ -16,6 +19,7 @@ public class AccountService implements UserDetailsService {
     @Autowired
     PasswordEncoder passwordEncoder;
 
+    @CacheEvict(cacheNames = AccountRepository.ACCOUNTS_CACHE, key = "#account.email")
     public Account saveAccount(Account account) {
         account.setPassword(this.passwordEncoder.encode(account.getPassword()));
         return this.accountRepository.save(account);
@@ -26,6 +30,24 @@ public class AccountService implements UserDetailsService {
         Account account = accountRepository.findByEmail(username)
                 .orElseThrow(() -> new UsernameNotFoundException(username));
 
+        // 캐시된 Account 는 그대로 두고 AccountAdapter 만 새로 만든다. (인증 후 credentials 를 지우기 때문)
+        return new AccountAdapter(account);
+    }
+
+    // 로그인에 성공했는데 해시가 현재 설정보다 약하면 DaoAuthenticationProvider 가 새로 해시한 비밀번호로 호출한다.
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = AccountRepository.ACCOUNTS_CACHE, key = "#user.username")
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        if (!(user instanceof AccountAdapter)) {
+            return user;
+        }
+
+        Integer accountId = ((AccountAdapter) user).getAccount().getId();
+        Account account = accountRepository.findById(accountId)
+                .orElseThrow(() -> new UsernameNotFoundException(user.getUsername()));
+        account.setPassword(newPassword);
+
         return new AccountAdapter(account);
     }
 }
@@ -0,0 +1,23 @@
+package com.restapi.api.account;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.security.oauth2.common.exceptions.OAuth2Exception;
+
+// 해시 작업 풀이 가득 찼을 때 토큰 엔드포인트가 500 대신 503 으로 응답하도록 OAuth2Exception 으로 던진다.
+public class PasswordHashingUnavailableException extends OAuth2Exception {
+
+    public PasswordHashingUnavailableException(String msg, Throwable t) {
+        super(msg, t);
+    }
+
+    @Override
+    public String getOAuth2ErrorCode() {
+        return "temporarily_unavailable";
+    }
+
+    @Override
+    public int getHttpErrorCode() {
+        return HttpStatus.SERVICE_UNAVAILABLE.value();
+    }
+
+}
@@ -6,6 +6,8 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
 import javax.validation.constraints.NotEmpty;
+import java.util.ArrayList;
+import java.util.List;
 
 @Component
 @ConfigurationProperties(prefix = "my-app")
@@ -30,4 +32,59 @@ public class AppProperties {
     @NotEmpty
     private String clientSecret;
 
+    private int tokenStoreShards = 16;
+
+    private int tokenStoreMaxTokens = 100_000;
+
+    private String tokenFormat = "store";
+
+    private String jwtSigningKey;
+
+    private int passwordHashThreads = Runtime.getRuntime().availableProcessors();
+
+    private int passwordHashQueueCapacity = 100;
+
+    private long passwordHashTimeoutMillis = 5000;
+
+    // 0 이면 BCrypt 기본 strength 를 쓴다.
+    private long passwordHashTargetMillis = 0;
+
+    // 이벤트 API 가 JDBC 를 기다리는 전용 스레드. 커넥션 풀 크기에 맞춘다.
+    private int dbExecutorThreads = 10;
+
+    private int dbExecutorQueueCapacity = 200;
+
+    private long asyncTimeoutMillis = 10_000;
+
+    // 인스턴스마다 이벤트 행에서 좌석을 이만큼씩 미리 받아두고 메모리에서 나눠준다.
+    private int enrollmentLeaseSize = 20;
+
+    // 받아둔 좌석은 이 시간 안에만 나눠주고, 남은 좌석은 DB 에 돌려준다.
+    private long enrollmentLeaseMillis = 10_000;
+
+    // prod 프로필의 SQL 로그. 이 비율만큼만 표본으로 남기고, 기준보다 느린 쿼리는 항상 남긴다.
+    private double sqlLogSampleRate = 0.01;
+
+    private long slowQueryThresholdMillis = 200;
+
+    // clientId 외에 추가로 등록할 클라이언트. 서비스 간 호출은 client_credentials 로 토큰을 받는다.
+    private List<Client> clients = new ArrayList<>();
+
+    @Getter @Setter
+    public static class Client {
+
+        @NotEmpty
+        private String clientId;
+
+        @NotEmpty
+        private String clientSecret;
+
+        private List<String> grantTypes = List.of("client_credentials");
+
+        private List<String> scopes = List.of("read");
+
+        private int accessTokenValiditySeconds = 10 * 60;
+
+    }
+
 }
@@ -0,0 +1,62 @@
+package com.restapi.api.common;
+
+import org.springframework.http.MediaType;
+
+public class ETags {
+
+    public static String of(Object version) {
+        return "\"" + version + "\"";
+    }
+
+    // HAL JSON, CBOR, Smile 은 바이트가 다르므로 표현마다 다른 ETag 를 준다.
+    public static String of(Object version, MediaType representation) {
+        return of(version + "-" + representation.getSubtype());
+    }
+
+    // Tomcat 은 강한 ETag 가 붙은 응답을 gzip 으로 압축하지 않는다. 압축될 만한 응답에는 약한 ETag 를 쓴다.
+    public static String weak(Object version, MediaType representation) {
+        return "W/" + of(version, representation);
+    }
+
+    // If-None-Match 는 약한 비교, If-Match 는 강한 비교를 사용한다. (RFC 7232)
+    public static boolean matches(String header, String eTag) {
+        return matches(header, eTag, true);
+    }
+
+    public static boolean matchesStrongly(String header, String eTag) {
+        return matches(header, eTag, false);
+    }
+
+    private static boolean matches(String header, String eTag, boolean weakComparison) {
+        if(header == null || eTag == null) {
+            return false;
+        }
+
+        String opaque = eTag;
+        if(eTag.startsWith("W/")) {
+            if(!weakComparison) {
+                return false;
+            }
+            opaque = eTag.substring(2);
+        }
+
+        for(String candidate : header.split(",")) {
+            candidate = candidate.trim();
+            if(candidate.equals("*")) {
+                return true;
+            }
+            if(candidate.startsWith("W/")) {
+                if(!weakComparison) {
+                    continue;
+                }
+                candidate = candidate.substring(2);
+            }
+            if(candidate.equals(opaque)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+}
@@ -0,0 +1,42 @@
+package com.restapi.api.common;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+// 바이너리 응답에서는 LocalDateTime 을 ISO 문자열 대신 epoch 밀리초 숫자로 주고받는다.
+// 이벤트 시각은 서버 기본 시간대 기준이므로(EventStatusScheduler 와 같다) 같은 시간대로 바꾼다.
+public class EpochDateTimeModule extends SimpleModule {
+
+    public EpochDateTimeModule() {
+        super(EpochDateTimeModule.class.getSimpleName());
+        addSerializer(LocalDateTime.class, new EpochSerializer());
+        addDeserializer(LocalDateTime.class, new EpochDeserializer());
+    }
+
+    static class EpochSerializer extends JsonSerializer<LocalDateTime> {
+
+        @Override
+        public void serialize(LocalDateTime value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            gen.writeNumber(value.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        }
+    }
+
+    static class EpochDeserializer extends JsonDeserializer<LocalDateTime> {
+
+        @Override
+        public LocalDateTime deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            return LocalDateTime.ofInstant(Instant.ofEpochMilli(p.getValueAsLong()), ZoneId.systemDefault());
+        }
+    }
+
+}
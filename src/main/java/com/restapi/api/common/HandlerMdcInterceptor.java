@@ -0,0 +1,35 @@
+package com.restapi.api.common;
+
+import org.slf4j.MDC;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+// 로그에서 어느 컨트롤러 메서드가 보낸 쿼리인지 알 수 있도록 MDC 에 핸들러 이름을 넣는다.
+// DB 작업 스레드에는 AsyncConfig 의 TaskDecorator 가 MDC 를 복사해 준다.
+public class HandlerMdcInterceptor implements AsyncHandlerInterceptor {
+
+    public static final String HANDLER_KEY = "handler";
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            HandlerMethod handlerMethod = (HandlerMethod) handler;
+            MDC.put(HANDLER_KEY, handlerMethod.getBeanType().getSimpleName() + "#" + handlerMethod.getMethod().getName());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        MDC.remove(HANDLER_KEY);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        MDC.remove(HANDLER_KEY);
+    }
+
+}
@@ -0,0 +1,75 @@
+package com.restapi.api.common;
+
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.hateoas.Link;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.lang.reflect.AnnotatedElement;
+import java.net.URI;
+
+// 컨트롤러 매핑 경로는 시작할 때 한 번만 읽고, 요청마다 base URI 와 id 만 붙여서 링크를 만든다.
+public class LinkTemplate {
+
+    private static final String BASE_URI_ATTRIBUTE = LinkTemplate.class.getName() + ".BASE_URI";
+
+    private final String path;
+
+    private LinkTemplate(String path) {
+        this.path = path;
+    }
+
+    public static LinkTemplate of(Class<?> controller) {
+        return new LinkTemplate(mappedPath(controller));
+    }
+
+    public static LinkTemplate of(Class<?> controller, String methodName) {
+        return new LinkTemplate(mappedPath(controller) + mappedPath(ReflectionUtils.findMethod(controller, methodName)));
+    }
+
+    public Link withRel(String rel) {
+        return new Link(baseUri() + this.path, rel);
+    }
+
+    public Link withRel(Object id, String rel) {
+        return new Link(href(id), rel);
+    }
+
+    public Link withSelfRel(Object id) {
+        return new Link(href(id)).withSelfRel();
+    }
+
+    public URI toUri(Object id) {
+        return URI.create(href(id));
+    }
+
+    private String href(Object id) {
+        return baseUri() + this.path + "/" + id;
+    }
+
+    private static String mappedPath(AnnotatedElement element) {
+        RequestMapping mapping = AnnotatedElementUtils.findMergedAnnotation(element, RequestMapping.class);
+        if(mapping == null || mapping.path().length == 0) {
+            return "";
+        }
+        return mapping.path()[0];
+    }
+
+    private static String baseUri() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if(attributes == null) {
+            return "";
+        }
+
+        String baseUri = (String) attributes.getAttribute(BASE_URI_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if(baseUri == null) {
+            baseUri = ServletUriComponentsBuilder.fromCurrentServletMapping().toUriString();
+            attributes.setAttribute(BASE_URI_ATTRIBUTE, baseUri, RequestAttributes.SCOPE_REQUEST);
+        }
+        return baseUri;
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.restapi.api.common;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+// 응답 본문을 쓰기 직전(ResponseBodyAdvice)부터 다 쓴 뒤(postHandle)까지를 직렬화 시간으로 잰다.
+// HAL 컨버터는 Spring HATEOAS 가 나중에 끼워 넣어서 컨버터를 감싸는 방식으로는 잴 수 없다.
+@ControllerAdvice(basePackages = "com.restapi.api")
+public class SerializationMetrics implements ResponseBodyAdvice<Object>, AsyncHandlerInterceptor {
+
+    private static final String STARTED_AT_ATTRIBUTE = SerializationMetrics.class.getName() + ".STARTED_AT";
+
+    @Autowired
+    StageTimer stageTimer;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest) {
+            ((ServletServerHttpRequest) request).getServletRequest().setAttribute(STARTED_AT_ATTRIBUTE, System.nanoTime());
+        }
+        return body;
+    }
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
+                           ModelAndView modelAndView) {
+        Object startedAt = request.getAttribute(STARTED_AT_ATTRIBUTE);
+        if (startedAt != null) {
+            request.removeAttribute(STARTED_AT_ATTRIBUTE);
+            this.stageTimer.record("serialization", System.nanoTime() - (Long) startedAt);
+        }
+    }
+
+}
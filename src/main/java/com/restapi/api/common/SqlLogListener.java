@@ -0,0 +1,119 @@
+package com.restapi.api.common;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+// Hibernate 의 SQL/바인드 로그 대신 쓰는 리스너. 쿼리 중 일부만 표본으로 남기고,
+// 기준 시간보다 느린 쿼리는 바인드 값과 호출한 컨트롤러 메서드(MDC)까지 항상 남긴다.
+// password 컬럼에 바인드되는 값은 가려서 남긴다.
+public class SqlLogListener implements QueryExecutionListener {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlLogListener.class);
+
+    private static final Set<String> MASKED_COLUMNS = Set.of("password");
+    private static final String MASK = "****";
+    private static final Pattern ASSIGNMENT = Pattern.compile("(\\w+)\\s*=\\s*\\?");
+    private static final Pattern INSERT = Pattern.compile("insert\\s+into\\s+\\S+\\s*\\(([^)]*)\\)\\s*values\\s*\\(([^)]*)\\)",
+            Pattern.CASE_INSENSITIVE);
+
+    private final double sampleRate;
+    private final long slowQueryThresholdMillis;
+
+    public SqlLogListener(double sampleRate, long slowQueryThresholdMillis) {
+        this.sampleRate = sampleRate;
+        this.slowQueryThresholdMillis = slowQueryThresholdMillis;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long elapsed = execInfo.getElapsedTime();
+        if (elapsed >= this.slowQueryThresholdMillis) {
+            log.warn("Slow query took {}ms in {}: {}", elapsed, handler(), format(queryInfoList, true));
+        } else if (this.sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < this.sampleRate) {
+            log.info("Sampled query took {}ms in {}: {}", elapsed, handler(), format(queryInfoList, false));
+        }
+    }
+
+    private static String handler() {
+        String handler = MDC.get(HandlerMdcInterceptor.HANDLER_KEY);
+        return handler != null ? handler : Thread.currentThread().getName();
+    }
+
+    private static String format(List<QueryInfo> queryInfoList, boolean withParameters) {
+        return queryInfoList.stream()
+                .map(queryInfo -> withParameters && !queryInfo.getParametersList().isEmpty()
+                        ? queryInfo.getQuery() + " " + parameters(queryInfo)
+                        : queryInfo.getQuery())
+                .collect(Collectors.joining("; "));
+    }
+
+    // 배치 쿼리는 실행마다 [...] 하나씩 나온다. setNull 의 두 번째 인자는 값이 아니라 SQL 타입이다.
+    private static String parameters(QueryInfo queryInfo) {
+        Set<Integer> masked = maskedIndexes(queryInfo.getQuery());
+        return queryInfo.getParametersList().stream()
+                .map(operations -> operations.stream()
+                        .map(operation -> parameter(operation, masked))
+                        .collect(Collectors.joining(", ", "[", "]")))
+                .collect(Collectors.joining(", "));
+    }
+
+    private static String parameter(ParameterSetOperation operation, Set<Integer> masked) {
+        Object[] args = operation.getArgs();
+        if (args.length > 0 && masked.contains(args[0])) {
+            return MASK;
+        }
+        if (args.length < 2 || "setNull".equals(operation.getMethod().getName())) {
+            return "null";
+        }
+        return String.valueOf(args[1]);
+    }
+
+    // 민감한 컬럼에 바인드되는 ? 의 순번을 찾는다. "컬럼 = ?" 꼴과 INSERT 의 컬럼 목록만 본다.
+    static Set<Integer> maskedIndexes(String sql) {
+        Set<Integer> indexes = new HashSet<>();
+        Matcher assignment = ASSIGNMENT.matcher(sql);
+        while (assignment.find()) {
+            if (MASKED_COLUMNS.contains(assignment.group(1).toLowerCase())) {
+                indexes.add(placeholdersBefore(sql, assignment.end()));
+            }
+        }
+
+        Matcher insert = INSERT.matcher(sql);
+        if (insert.find()) {
+            String[] columns = insert.group(1).split(",");
+            String[] values = insert.group(2).split(",");
+            int index = placeholdersBefore(sql, insert.start(2));
+            for (int i = 0; i < Math.min(columns.length, values.length); i++) {
+                if (values[i].trim().equals("?")) {
+                    index++;
+                    if (MASKED_COLUMNS.contains(columns[i].trim().toLowerCase())) {
+                        indexes.add(index);
+                    }
+                }
+            }
+        }
+        return indexes;
+    }
+
+    private static int placeholdersBefore(String sql, int end) {
+        return (int) sql.substring(0, end).chars().filter(c -> c == '?').count();
+    }
+
+}
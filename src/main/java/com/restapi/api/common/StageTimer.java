@@ -0,0 +1,74 @@
+package com.restapi.api.common;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// 요청 하나가 검증, 매핑, 저장소, 링크, 직렬화 중 어디에 시간을 쓰는지 단계별로 잰다.
+// 매핑된 URI 패턴을 태그로 달아서 엔드포인트마다 따로 볼 수 있다.
+@Component
+public class StageTimer {
+
+    public static final String METRIC_NAME = "event.request.stage";
+
+    private static final String NO_URI = "none";
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    private final Map<String, Map<String, Timer>> timers = new ConcurrentHashMap<>();
+
+    public <T> T record(String stage, Supplier<T> supplier) {
+        long start = System.nanoTime();
+        try {
+            return supplier.get();
+        } finally {
+            record(stage, System.nanoTime() - start);
+        }
+    }
+
+    public void record(String stage, Runnable runnable) {
+        long start = System.nanoTime();
+        try {
+            runnable.run();
+        } finally {
+            record(stage, System.nanoTime() - start);
+        }
+    }
+
+    public void record(String stage, long nanos) {
+        timer(stage, uri()).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    // 요청마다 meter id 를 만들고 필터를 거치지 않도록 (stage, uri) 별로 한 번만 등록해 둔다.
+    private Timer timer(String stage, String uri) {
+        Map<String, Timer> byUri = this.timers.computeIfAbsent(stage, key -> new ConcurrentHashMap<>());
+        Timer timer = byUri.get(uri);
+        if (timer == null) {
+            timer = byUri.computeIfAbsent(uri, key -> Timer.builder(METRIC_NAME)
+                    .tag("stage", stage)
+                    .tag("uri", uri)
+                    .register(this.meterRegistry));
+        }
+        return timer;
+    }
+
+    private static String uri() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return NO_URI;
+        }
+        Object pattern = attributes.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        return pattern == null ? NO_URI : pattern.toString();
+    }
+
+}
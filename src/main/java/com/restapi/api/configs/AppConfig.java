@@ -3,6 +3,7 @@ package com.restapi.api.configs;
 import com.restapi.api.account.Account;
 import com.restapi.api.account.AccountRole;
 import com.restapi.api.account.AccountService;
+import com.restapi.api.account.PooledPasswordEncoder;
 import com.restapi.api.common.AppProperties;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,22 +11,57 @@ import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.NoOpPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
 public class AppConfig {
 
+    private static final int DEFAULT_BCRYPT_STRENGTH = 10;
+    private static final int MIN_BCRYPT_STRENGTH = 10;
+    private static final int MAX_BCRYPT_STRENGTH = 20;
+
     @Bean
     public ModelMapper modelMapper() {
         return new ModelMapper();
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return PasswordEncoderFactories.createDelegatingPasswordEncoder();
+    public PooledPasswordEncoder passwordEncoder(AppProperties appProperties) {
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put("bcrypt", new BCryptPasswordEncoder(bcryptStrength(appProperties.getPasswordHashTargetMillis())));
+        encoders.put("noop", NoOpPasswordEncoder.getInstance());
+        encoders.put("pbkdf2", new Pbkdf2PasswordEncoder());
+
+        // strength 가 낮은 기존 해시는 로그인할 때 AccountService.updatePassword 로 다시 해시된다.
+        return new PooledPasswordEncoder(new DelegatingPasswordEncoder("bcrypt", encoders),
+                appProperties.getPasswordHashThreads(),
+                appProperties.getPasswordHashQueueCapacity(),
+                appProperties.getPasswordHashTimeoutMillis());
+    }
+
+    // strength 가 1 오를 때마다 해시 시간이 두 배가 되므로 기본 strength 로 한 번 재보고 목표 시간에 맞춘다.
+    private static int bcryptStrength(long targetMillis) {
+        if (targetMillis <= 0) {
+            return DEFAULT_BCRYPT_STRENGTH;
+        }
+
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(DEFAULT_BCRYPT_STRENGTH);
+        probe.encode("calibration");
+        long start = System.nanoTime();
+        probe.encode("calibration");
+        long elapsedMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
+        int strength = DEFAULT_BCRYPT_STRENGTH + (int) Math.round(Math.log((double) targetMillis / elapsedMillis) / Math.log(2));
+        return Math.max(MIN_BCRYPT_STRENGTH, Math.min(MAX_BCRYPT_STRENGTH, strength));
     }
 
     @Bean
@@ -0,0 +1,75 @@
+package com.restapi.api.configs;
+
+import com.restapi.api.common.AppProperties;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.Map;
+
+@Configuration
+public class AsyncConfig implements WebMvcConfigurer {
+
+    public static final String DB_EXECUTOR = "dbExecutor";
+
+    @Autowired
+    AppProperties appProperties;
+
+    // 큐까지 가득 차면 TaskRejectedException 을 던지고, 컨트롤러가 503 으로 바꾼다.
+    @Bean(DB_EXECUTOR)
+    public ThreadPoolTaskExecutor dbExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("db-");
+        executor.setCorePoolSize(appProperties.getDbExecutorThreads());
+        executor.setMaxPoolSize(appProperties.getDbExecutorThreads());
+        executor.setQueueCapacity(appProperties.getDbExecutorQueueCapacity());
+        executor.setTaskDecorator(new RequestContextTaskDecorator());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    // 시간 안에 끝나지 않은 요청은 AsyncRequestTimeoutException 으로 503 이 된다.
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setDefaultTimeout(appProperties.getAsyncTimeoutMillis());
+    }
+
+    // 링크를 만들 때 현재 요청 URI 가 필요하므로 요청 속성과 MDC 를 작업 스레드로 넘겨준다.
+    // 요청 스레드의 속성 객체는 첫 디스패치가 끝나면 비활성이 되므로 같은 요청으로 새로 만든다.
+    static class RequestContextTaskDecorator implements TaskDecorator {
+
+        @Override
+        public Runnable decorate(Runnable runnable) {
+            RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+            if (requestAttributes instanceof ServletRequestAttributes) {
+                ServletRequestAttributes servletRequestAttributes = (ServletRequestAttributes) requestAttributes;
+                requestAttributes = new ServletRequestAttributes(servletRequestAttributes.getRequest(),
+                        servletRequestAttributes.getResponse());
+            }
+            RequestAttributes workerRequestAttributes = requestAttributes;
+            Map<String, String> mdc = MDC.getCopyOfContextMap();
+            return () -> {
+                RequestContextHolder.setRequestAttributes(workerRequestAttributes);
+                if (mdc != null) {
+                    MDC.setContextMap(mdc);
+                }
+                try {
+                    runnable.run();
+                } finally {
+                    MDC.clear();
+                    RequestContextHolder.resetRequestAttributes();
+                }
+            };
+        }
+    }
+
+}
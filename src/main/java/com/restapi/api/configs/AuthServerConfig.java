@@ -2,16 +2,19 @@ package com.restapi.api.configs;
 
 import com.restapi.api.account.AccountService;
 import com.restapi.api.common.AppProperties;
+import com.restapi.api.oauth.CachingClientSecretEncoder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.config.annotation.builders.InMemoryClientDetailsServiceBuilder;
 import org.springframework.security.oauth2.config.annotation.configurers.ClientDetailsServiceConfigurer;
 import org.springframework.security.oauth2.config.annotation.web.configuration.AuthorizationServerConfigurerAdapter;
 import org.springframework.security.oauth2.config.annotation.web.configuration.EnableAuthorizationServer;
 import org.springframework.security.oauth2.config.annotation.web.configurers.AuthorizationServerEndpointsConfigurer;
 import org.springframework.security.oauth2.config.annotation.web.configurers.AuthorizationServerSecurityConfigurer;
 import org.springframework.security.oauth2.provider.token.TokenStore;
+import org.springframework.security.oauth2.provider.token.store.JwtAccessTokenConverter;
 
 
 @Configuration
@@ -33,20 +36,31 @@ public class AuthServerConfig extends AuthorizationServerConfigurerAdapter {
     @Autowired
     AppProperties appProperties;
 
+    @Autowired(required = false)
+    JwtAccessTokenConverter accessTokenConverter;
+
     @Override
     public void configure(AuthorizationServerSecurityConfigurer security) throws Exception {
-        security.passwordEncoder(passwordEncoder);
+        security.passwordEncoder(new CachingClientSecretEncoder(passwordEncoder));
     }
 
     @Override
     public void configure(ClientDetailsServiceConfigurer clients) throws Exception {
-        clients.inMemory()
-                .withClient(appProperties.getClientId())
+        InMemoryClientDetailsServiceBuilder builder = clients.inMemory();
+        builder.withClient(appProperties.getClientId())
                 .authorizedGrantTypes("password", "refresh_token")
                 .scopes("read", "write")
                 .secret(this.passwordEncoder.encode(appProperties.getClientSecret()))
                 .accessTokenValiditySeconds(10 * 60)
                 .refreshTokenValiditySeconds(6 * 10 * 60);
+
+        for(AppProperties.Client client : appProperties.getClients()) {
+            builder.withClient(client.getClientId())
+                    .authorizedGrantTypes(client.getGrantTypes().toArray(String[]::new))
+                    .scopes(client.getScopes().toArray(String[]::new))
+                    .secret(this.passwordEncoder.encode(client.getClientSecret()))
+                    .accessTokenValiditySeconds(client.getAccessTokenValiditySeconds());
+        }
     }
 
     @Override
@@ -54,5 +68,9 @@ public class AuthServerConfig extends AuthorizationServerConfigurerAdapter {
         endpoints.authenticationManager(authenticationManager)
                     .userDetailsService(accountService)
                     .tokenStore(tokenStore);
+
+        if(accessTokenConverter != null) {
+            endpoints.accessTokenConverter(accessTokenConverter);
+        }
     }
 }
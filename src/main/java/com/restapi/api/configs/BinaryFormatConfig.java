@@ -0,0 +1,64 @@
+package com.restapi.api.configs;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restapi.api.common.EpochDateTimeModule;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.hateoas.mediatype.MessageResolver;
+import org.springframework.hateoas.mediatype.hal.CurieProvider;
+import org.springframework.hateoas.mediatype.hal.HalConfiguration;
+import org.springframework.hateoas.mediatype.hal.Jackson2HalModule;
+import org.springframework.hateoas.server.LinkRelationProvider;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+// 내부 서비스가 Accept 헤더로 CBOR 나 Smile 을 고르면 HAL JSON 과 같은 구조(_links, _embedded)를 바이너리로 준다.
+// Spring MVC 가 기본으로 넣는 CBOR/Smile 컨버터는 HAL 모듈이 없으므로 바꿔 끼운다.
+@Configuration
+public class BinaryFormatConfig implements WebMvcConfigurer {
+
+    public static final String SMILE_VALUE = "application/x-jackson-smile";
+
+    @Autowired
+    ObjectProvider<Jackson2ObjectMapperBuilderCustomizer> customizers;
+
+    @Autowired
+    LinkRelationProvider linkRelationProvider;
+
+    @Autowired
+    MessageResolver messageResolver;
+
+    @Autowired
+    ObjectProvider<CurieProvider> curieProvider;
+
+    @Autowired
+    ObjectProvider<HalConfiguration> halConfiguration;
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.removeIf(converter -> converter instanceof MappingJackson2CborHttpMessageConverter
+                || converter instanceof MappingJackson2SmileHttpMessageConverter);
+        converters.add(new MappingJackson2CborHttpMessageConverter(halObjectMapper(Jackson2ObjectMapperBuilder.cbor())));
+        converters.add(new MappingJackson2SmileHttpMessageConverter(halObjectMapper(Jackson2ObjectMapperBuilder.smile())));
+    }
+
+    // spring.jackson.* 설정과 @JsonComponent 는 JSON 과 똑같이 적용하고, 날짜만 epoch 숫자로 바꾼다.
+    private ObjectMapper halObjectMapper(Jackson2ObjectMapperBuilder builder) {
+        this.customizers.orderedStream().forEach(customizer -> customizer.customize(builder));
+        ObjectMapper objectMapper = builder.build();
+        objectMapper.registerModule(new Jackson2HalModule());
+        objectMapper.registerModule(new EpochDateTimeModule());
+        objectMapper.setHandlerInstantiator(new Jackson2HalModule.HalHandlerInstantiator(this.linkRelationProvider,
+                this.curieProvider.getIfAvailable(() -> CurieProvider.NONE), this.messageResolver,
+                this.halConfiguration.getIfAvailable(HalConfiguration::new)));
+        return objectMapper;
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.restapi.api.configs;
+
+import com.restapi.api.common.SerializationMetrics;
+import com.restapi.api.common.StageTimer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.Errors;
+import org.springframework.validation.SmartValidator;
+import org.springframework.validation.Validator;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class MetricsConfig implements WebMvcConfigurer {
+
+    @Autowired
+    StageTimer stageTimer;
+
+    @Autowired
+    SerializationMetrics serializationMetrics;
+
+    @Autowired
+    javax.validation.Validator validator;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(this.serializationMetrics).addPathPatterns("/api/**");
+    }
+
+    // @Valid 검증도 단계별 시간에 넣기 위해 MVC 검증기를 감싼다.
+    @Override
+    public Validator getValidator() {
+        return new TimedValidator(new SpringValidatorAdapter(this.validator), this.stageTimer);
+    }
+
+    static class TimedValidator implements SmartValidator {
+
+        private final SmartValidator delegate;
+        private final StageTimer stageTimer;
+
+        TimedValidator(SmartValidator delegate, StageTimer stageTimer) {
+            this.delegate = delegate;
+            this.stageTimer = stageTimer;
+        }
+
+        @Override
+        public boolean supports(Class<?> clazz) {
+            return this.delegate.supports(clazz);
+        }
+
+        @Override
+        public void validate(Object target, Errors errors) {
+            this.stageTimer.record("bean-validation", () -> this.delegate.validate(target, errors));
+        }
+
+        @Override
+        public void validate(Object target, Errors errors, Object... validationHints) {
+            this.stageTimer.record("bean-validation", () -> this.delegate.validate(target, errors, validationHints));
+        }
+    }
+
+}
@@ -0,0 +1,49 @@
+package com.restapi.api.configs;
+
+import com.restapi.api.common.AppProperties;
+import com.restapi.api.common.HandlerMdcInterceptor;
+import com.restapi.api.common.SqlLogListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+
+// prod 에서는 Hibernate 의 SQL 로그를 끄고(application-prod.properties) 데이터소스 프록시로 SQL 을 남긴다.
+@Configuration
+@Profile("prod")
+public class ProdLoggingConfig implements WebMvcConfigurer {
+
+    @Bean
+    public SqlLogListener sqlLogListener(AppProperties appProperties) {
+        return new SqlLogListener(appProperties.getSqlLogSampleRate(), appProperties.getSlowQueryThresholdMillis());
+    }
+
+    // BeanPostProcessor 는 먼저 만들어지므로 리스너는 데이터소스를 감쌀 때 꺼낸다.
+    @Bean
+    public static BeanPostProcessor sqlLoggingDataSourcePostProcessor(ObjectProvider<SqlLogListener> sqlLogListener) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(beanName, (DataSource) bean)
+                            .listener(sqlLogListener.getObject())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerMdcInterceptor()).addPathPatterns("/api/**");
+    }
+
+}
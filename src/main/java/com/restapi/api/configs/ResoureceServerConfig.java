@@ -1,5 +1,6 @@
 package com.restapi.api.configs;
 
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.oauth2.provider.error.OAuth2AccessDeniedHandler;
@@ -25,6 +26,14 @@ public class ResoureceServerConfig extends ResourceServerConfigurerAdapter {
                 .authorizeRequests()
                     .mvcMatchers(HttpMethod.GET, "/api/**")
                         .permitAll()
+                    // 쓰기 요청은 사용자 토큰만 받는다. client_credentials 토큰에는 매니저가 될 사용자가 없다.
+                    .mvcMatchers("/api/**")
+                        .access("#oauth2.isUser()")
+                    // actuator 는 127.0.0.1 에만 묶인 management 포트로만 열린다. health 와 scrape 만 토큰 없이 받는다.
+                    .requestMatchers(EndpointRequest.to("health", "prometheus"))
+                        .permitAll()
+                    .requestMatchers(EndpointRequest.toAnyEndpoint())
+                        .hasRole("ADMIN")
                     .anyRequest()
                         .authenticated()
                     .and()
@@ -1,7 +1,16 @@
 package com.restapi.api.configs;
 
 import com.restapi.api.account.AccountService;
+import com.restapi.api.common.AppProperties;
+import com.restapi.api.oauth.AccountUserAuthenticationConverter;
+import com.restapi.api.oauth.RevocableJwtTokenStore;
+import com.restapi.api.oauth.RevokedTokenRepository;
+import com.restapi.api.oauth.ShardedTokenStore;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -13,22 +22,89 @@ import org.springframework.security.config.annotation.web.builders.WebSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityConfigurerAdapter;
 import org.springframework.security.crypto.password.PasswordEncoder;
-import org.springframework.security.oauth2.provider.token.TokenStore;
-import org.springframework.security.oauth2.provider.token.store.InMemoryTokenStore;
+import org.springframework.security.oauth2.provider.token.DefaultAccessTokenConverter;
+import org.springframework.security.oauth2.provider.token.store.JwtAccessTokenConverter;
+
+import java.nio.charset.StandardCharsets;
 
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig extends WebSecurityConfigurerAdapter {
 
+    private static final String PLACEHOLDER_SIGNING_KEY_PREFIX = "change-me";
+
+    private static final int MIN_SIGNING_KEY_BYTES = 32;
+
     @Autowired
     AccountService accountService;
 
     @Autowired
     PasswordEncoder passwordEncoder;
 
+    @Autowired
+    AppProperties appProperties;
+
+    @Bean
+    @ConditionalOnProperty(prefix = "my-app", name = "token-format", havingValue = "store", matchIfMissing = true)
+    public ShardedTokenStore tokenStore() {
+        return new ShardedTokenStore(appProperties.getTokenStoreShards(), appProperties.getTokenStoreMaxTokens());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "my-app", name = "token-format", havingValue = "store", matchIfMissing = true)
+    public MeterBinder tokenStoreMetrics(ShardedTokenStore tokenStore) {
+        return registry -> {
+            Gauge.builder("oauth.tokens", tokenStore, ShardedTokenStore::accessTokenCount)
+                    .tag("type", "access")
+                    .register(registry);
+            Gauge.builder("oauth.tokens", tokenStore, ShardedTokenStore::refreshTokenCount)
+                    .tag("type", "refresh")
+                    .register(registry);
+            FunctionCounter.builder("oauth.tokens.evicted", tokenStore, ShardedTokenStore::evictionCount)
+                    .register(registry);
+        };
+    }
+
+    // my-app.token-format=jwt 이면 서명된 토큰을 발급하고, 리소스 서버는 저장소 없이 서명만 검증한다.
+    @Bean
+    @ConditionalOnProperty(prefix = "my-app", name = "token-format", havingValue = "jwt")
+    public JwtAccessTokenConverter accessTokenConverter() {
+        DefaultAccessTokenConverter accessTokenConverter = new DefaultAccessTokenConverter();
+        accessTokenConverter.setUserTokenConverter(new AccountUserAuthenticationConverter());
+
+        JwtAccessTokenConverter jwtAccessTokenConverter = new JwtAccessTokenConverter();
+        jwtAccessTokenConverter.setSigningKey(requireSigningKey(appProperties.getJwtSigningKey()));
+        jwtAccessTokenConverter.setAccessTokenConverter(accessTokenConverter);
+        return jwtAccessTokenConverter;
+    }
+
+    // 서명 키는 저장소에 두지 않고 배포 환경(MY_APP_JWT_SIGNING_KEY 등)에서만 받는다.
+    // 키가 없거나 짧거나 예시 값이면 아무나 토큰을 만들 수 있으므로 시작하지 않는다.
+    static String requireSigningKey(String signingKey) {
+        if(signingKey == null || signingKey.isBlank()) {
+            throw new IllegalStateException("my-app.jwt-signing-key must be set when my-app.token-format=jwt");
+        }
+        if(signingKey.startsWith(PLACEHOLDER_SIGNING_KEY_PREFIX)) {
+            throw new IllegalStateException("my-app.jwt-signing-key is still the placeholder value");
+        }
+        if(signingKey.getBytes(StandardCharsets.UTF_8).length < MIN_SIGNING_KEY_BYTES) {
+            throw new IllegalStateException("my-app.jwt-signing-key must be at least " + MIN_SIGNING_KEY_BYTES + " bytes");
+        }
+        return signingKey;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "my-app", name = "token-format", havingValue = "jwt")
+    public RevocableJwtTokenStore jwtTokenStore(JwtAccessTokenConverter accessTokenConverter,
+                                                RevokedTokenRepository revokedTokenRepository) {
+        return new RevocableJwtTokenStore(accessTokenConverter, revokedTokenRepository);
+    }
+
     @Bean
-    public TokenStore tokenStore() {
-        return new InMemoryTokenStore();
+    @ConditionalOnProperty(prefix = "my-app", name = "token-format", havingValue = "jwt")
+    public MeterBinder jwtTokenStoreMetrics(RevocableJwtTokenStore tokenStore) {
+        return registry -> Gauge.builder("oauth.tokens.revoked", tokenStore, RevocableJwtTokenStore::revokedTokenCount)
+                .register(registry);
     }
 
     @Bean
@@ -0,0 +1,25 @@
+package com.restapi.api.events;
+
+import com.restapi.api.account.Account;
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@Builder @AllArgsConstructor @NoArgsConstructor
+@Getter @Setter @EqualsAndHashCode(of = "id")
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_enrollment_event_account", columnNames = {"event_id", "account_id"}))
+public class Enrollment {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "enrollment_seq")
+    @SequenceGenerator(name = "enrollment_seq", sequenceName = "enrollment_seq", allocationSize = 50)
+    private Integer id;
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    private Event event;
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    private Account account;
+    private LocalDateTime enrolledAt;
+
+}
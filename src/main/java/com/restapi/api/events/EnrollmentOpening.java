@@ -0,0 +1,11 @@
+package com.restapi.api.events;
+
+import java.time.LocalDateTime;
+
+public interface EnrollmentOpening {
+
+    Integer getId();
+
+    LocalDateTime getBeginEnrollmentDateTime();
+
+}
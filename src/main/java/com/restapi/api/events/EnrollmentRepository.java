@@ -0,0 +1,18 @@
+package com.restapi.api.events;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface EnrollmentRepository extends JpaRepository<Enrollment, Integer> {
+
+    long countByEventId(Integer eventId);
+
+    boolean existsByEventIdAndAccountId(Integer eventId, Integer accountId);
+
+    @Query("select e.account.id from Enrollment e where e.event.id = :eventId")
+    List<Integer> findAccountIdsByEventId(@Param("eventId") Integer eventId);
+
+}
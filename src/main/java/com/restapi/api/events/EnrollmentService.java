@@ -0,0 +1,274 @@
+package com.restapi.api.events;
+
+import com.restapi.api.account.Account;
+import com.restapi.api.account.AccountRepository;
+import com.restapi.api.common.AppProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 인스턴스마다 이벤트 행에서 좌석을 한 묶음씩 조건부 UPDATE 로 임대하고, 신청은 메모리의 카운터에서 좌석을 꺼낸다.
+// 이벤트 행은 묶음마다 한 번만 잠기고, 신청 한 건은 enrollment INSERT 한 번으로 끝난다.
+// 임대는 enrollmentLeaseMillis 동안만 쓰고, 남은 좌석은 DB 에 돌려준다.
+@Service
+public class EnrollmentService {
+
+    private static final Logger log = LoggerFactory.getLogger(EnrollmentService.class);
+
+    // 만료된 임대로 나눠준 신청이 커밋되기를 기다리는 여유. 인스턴스 사이의 시계 차이도 덮는다.
+    private static final Duration RECONCILE_GRACE = Duration.ofMinutes(1);
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    @Autowired
+    AppProperties appProperties;
+
+    private final Map<Integer, SeatLease> leases = new ConcurrentHashMap<>();
+
+    public SeatReservation enroll(Integer eventId, Account account) {
+        LocalDateTime now = LocalDateTime.now();
+        SeatLease lease = this.leases.get(eventId);
+        while (lease == null || !lease.tryTake(now)) {
+            lease = this.leases.computeIfAbsent(eventId, SeatLease::new);
+            synchronized (lease) {
+                if (lease.retired) {
+                    continue;
+                }
+                SeatReservation reservation = takeOrLease(lease);
+                if (!reservation.isReserved()) {
+                    return reservation;
+                }
+            }
+            break;
+        }
+
+        // 같은 계정이 두 번 신청하면 유니크 제약에 걸리고, 꺼낸 좌석은 되돌린다.
+        try {
+            this.enrollmentRepository.saveAndFlush(Enrollment.builder()
+                    .event(this.eventRepository.getOne(eventId))
+                    .account(this.accountRepository.getOne(account.getId()))
+                    .enrolledAt(now)
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            giveBack(lease);
+            return new SeatReservation(eventId, SeatReservation.Result.ALREADY_ENROLLED, lease.remaining());
+        } catch (RuntimeException e) {
+            giveBack(lease);
+            throw e;
+        }
+        lease.inFlight.decrementAndGet();
+        return new SeatReservation(eventId, SeatReservation.Result.RESERVED, lease.remaining());
+    }
+
+    // 이벤트를 고치면 이 인스턴스가 받아둔 좌석을 돌려줘서 다음 신청부터 바뀐 정원과 상태를 다시 읽는다.
+    // 다른 인스턴스의 임대는 만료될 때까지 남는다.
+    public void release(Integer eventId) {
+        SeatLease lease = this.leases.get(eventId);
+        if (lease != null) {
+            retire(lease, LocalDateTime.now());
+        }
+    }
+
+    @Scheduled(fixedDelay = 1000)
+    public void releaseExpiredLeases() {
+        LocalDateTime now = LocalDateTime.now();
+        this.leases.values().stream()
+                .filter(lease -> lease.isExpired(now))
+                .forEach(lease -> retire(lease, now));
+    }
+
+    @PreDestroy
+    public void releaseAll() {
+        LocalDateTime now = LocalDateTime.now();
+        this.leases.values().forEach(lease -> retire(lease, now));
+    }
+
+    // 돌려주지 못하고 죽은 인스턴스의 좌석처럼 reservedSeats 가 실제 신청 수와 어긋난 이벤트를 맞춘다.
+    @Scheduled(fixedDelayString = "${my-app.enrollment-reconcile-millis:60000}")
+    public void reconcile() {
+        reconcile(LocalDateTime.now());
+    }
+
+    void reconcile(LocalDateTime now) {
+        LocalDateTime cutoff = now.minus(RECONCILE_GRACE);
+        List<SeatCount> drifted = this.eventRepository.findSeatDrift(EventStatus.BEGAN_ENROLLMENT, cutoff);
+        for (SeatCount count : drifted) {
+            if (this.eventRepository.updateReservedSeats(count.getId(), (int) count.getEnrolled(), cutoff) > 0) {
+                log.warn("Reserved seats of event {} reset to {}", count.getId(), count.getEnrolled());
+            }
+        }
+    }
+
+    // 받아둔 좌석이 떨어졌을 때만 들어온다. lease 의 모니터를 잡은 채로 부른다.
+    // 좌석을 꺼냈으면 RESERVED, 아니면 거절 사유를 돌려준다.
+    private SeatReservation takeOrLease(SeatLease lease) {
+        Integer eventId = lease.eventId;
+        while (true) {
+            LocalDateTime now = LocalDateTime.now();
+            if (lease.tryTake(now)) {
+                return new SeatReservation(eventId, SeatReservation.Result.RESERVED, 0);
+            }
+            if (lease.isExpired(now)) {
+                int unused = lease.drain(now);
+                if (unused > 0) {
+                    this.eventRepository.releaseSeats(eventId, unused);
+                }
+            }
+
+            EventSeats seats = this.eventRepository.findSeatsById(eventId).orElse(null);
+            if (seats == null) {
+                return new SeatReservation(eventId, SeatReservation.Result.NO_EVENT, 0);
+            }
+            SeatReservation.Result rejected = rejection(seats, now);
+            if (rejected == SeatReservation.Result.SOLD_OUT && lease.inFlight.get() > 0) {
+                // 꺼내 간 좌석이 중복 신청으로 돌아올 수 있으니 결과가 나올 때까지 기다린다.
+                try {
+                    lease.wait(10);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return new SeatReservation(eventId, rejected, 0);
+                }
+                continue;
+            }
+            if (rejected != null) {
+                return new SeatReservation(eventId, rejected, remaining(seats));
+            }
+
+            int count = Math.min(this.appProperties.getEnrollmentLeaseSize(), remaining(seats));
+            LocalDateTime until = now.plus(Duration.ofMillis(this.appProperties.getEnrollmentLeaseMillis()));
+            if (this.eventRepository.leaseSeats(eventId, count, EventStatus.BEGAN_ENROLLMENT, now, until) > 0) {
+                lease.refill(count, until, seats.getCloseEnrollmentDateTime(), remaining(seats) - count);
+            }
+        }
+    }
+
+    private void giveBack(SeatLease lease) {
+        boolean returned;
+        synchronized (lease) {
+            returned = lease.giveBack(LocalDateTime.now());
+            lease.notifyAll();
+        }
+        if (!returned) {
+            this.eventRepository.releaseSeats(lease.eventId, 1);
+        }
+    }
+
+    private void retire(SeatLease lease, LocalDateTime now) {
+        int unused;
+        synchronized (lease) {
+            unused = lease.drain(now);
+            if (lease.inFlight.get() == 0) {
+                lease.retired = true;
+                this.leases.remove(lease.eventId, lease);
+            }
+        }
+        if (unused > 0) {
+            this.eventRepository.releaseSeats(lease.eventId, unused);
+        }
+    }
+
+    private static SeatReservation.Result rejection(EventSeats seats, LocalDateTime now) {
+        if (seats.getEventStatus() != EventStatus.BEGAN_ENROLLMENT) {
+            return SeatReservation.Result.NOT_OPEN;
+        }
+        if (seats.getCloseEnrollmentDateTime() == null || !seats.getCloseEnrollmentDateTime().isAfter(now)) {
+            return SeatReservation.Result.CLOSED;
+        }
+        if (seats.getReservedSeats() >= seats.getLimitOfEnrollment()) {
+            return SeatReservation.Result.SOLD_OUT;
+        }
+        return null;
+    }
+
+    private static int remaining(EventSeats seats) {
+        return Math.max(0, seats.getLimitOfEnrollment() - seats.getReservedSeats());
+    }
+
+    // 한 이벤트에 대해 이 인스턴스가 받아둔 좌석. 좌석을 꺼낼 때는 락 없이 CAS 만 쓴다.
+    static class SeatLease {
+
+        final Integer eventId;
+        final AtomicInteger available = new AtomicInteger();
+        // 꺼내 갔지만 INSERT 결과가 아직 나오지 않은 좌석
+        final AtomicInteger inFlight = new AtomicInteger();
+        volatile LocalDateTime until;
+        volatile LocalDateTime closeEnrollmentDateTime;
+        // 임대할 때 DB 에 남아 있던 좌석. 응답의 remainingSeats 를 어림하는 데만 쓴다.
+        volatile int unleased;
+        boolean retired;
+
+        SeatLease(Integer eventId) {
+            this.eventId = eventId;
+        }
+
+        boolean isExpired(LocalDateTime now) {
+            return this.until != null && !now.isBefore(this.until);
+        }
+
+        boolean tryTake(LocalDateTime now) {
+            if (this.until == null || !now.isBefore(this.until) || !now.isBefore(this.closeEnrollmentDateTime)) {
+                return false;
+            }
+            this.inFlight.incrementAndGet();
+            int seats;
+            do {
+                seats = this.available.get();
+                if (seats == 0) {
+                    this.inFlight.decrementAndGet();
+                    return false;
+                }
+            } while (!this.available.compareAndSet(seats, seats - 1));
+            return true;
+        }
+
+        // 모니터를 잡은 채로 부른다. 만료된 임대에는 되돌리지 않고 false 를 돌려준다.
+        boolean giveBack(LocalDateTime now) {
+            this.inFlight.decrementAndGet();
+            if (this.retired || isExpired(now)) {
+                return false;
+            }
+            this.available.incrementAndGet();
+            return true;
+        }
+
+        // 모니터를 잡은 채로 부른다. 더 나눠주지 않도록 만료시키고 남은 좌석 수를 돌려준다.
+        int drain(LocalDateTime now) {
+            if (this.until == null || this.until.isAfter(now)) {
+                this.until = now;
+            }
+            return this.available.getAndSet(0);
+        }
+
+        // 모니터를 잡은 채로 부른다.
+        void refill(int seats, LocalDateTime until, LocalDateTime closeEnrollmentDateTime, int unleased) {
+            this.closeEnrollmentDateTime = closeEnrollmentDateTime;
+            this.unleased = unleased;
+            this.until = until;
+            this.available.addAndGet(seats);
+        }
+
+        int remaining() {
+            return this.unleased + this.available.get();
+        }
+
+    }
+
+}
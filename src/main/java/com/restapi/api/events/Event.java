@@ -1,5 +1,6 @@
 package com.restapi.api.events;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.restapi.api.account.Account;
 import com.restapi.api.account.AccountSerializer;
@@ -11,11 +12,21 @@ import java.time.LocalDateTime;
 @Builder @AllArgsConstructor @NoArgsConstructor
 @Getter @Setter @EqualsAndHashCode(of="id")
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_event_status_enrollment", columnList = "eventStatus, beginEnrollmentDateTime, closeEnrollmentDateTime"),
+        @Index(name = "idx_event_begin_event", columnList = "beginEventDateTime"),
+        @Index(name = "idx_event_free_offline_price", columnList = "free, offline, basePrice"),
+        @Index(name = "idx_event_manager", columnList = "manager_id")
+})
 public class Event {
 
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "event_seq")
+    @SequenceGenerator(name = "event_seq", sequenceName = "event_seq", allocationSize = 50)
     private Integer id;
+    @Version
+    @JsonIgnore
+    private Long version;
     private String name;
     private String description;
     private LocalDateTime beginEnrollmentDateTime;
@@ -26,14 +37,36 @@ public class Event {
     private int basePrice; // (optional)
     private int maxPrice; // (optional)
     private int limitOfEnrollment;
+    // 인스턴스들이 임대해 간 좌석 수. EnrollmentService 의 UPDATE 로만 바꾸고, 엔티티를 저장할 때는 쓰지 않는다.
+    @JsonIgnore
+    @Column(updatable = false)
+    private int reservedSeats;
+    // 마지막으로 임대한 좌석의 만료 시각. 이 시각이 지나야 reservedSeats 를 신청 수에 맞춘다.
+    @JsonIgnore
+    @Column(updatable = false)
+    private LocalDateTime seatsLeasedUntil;
     private boolean offline;
     private boolean free;
     @Enumerated(EnumType.STRING)
     private EventStatus eventStatus = EventStatus.DRAFT;
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JsonSerialize(using = AccountSerializer.class)
     private Account manager;
 
+    // 프록시 매니저의 id 만 비교하므로 Account 를 읽어오지 않는다.
+    public boolean isManagedBy(Account account) {
+        return this.manager != null && account != null && this.manager.getId().equals(account.getId());
+    }
+
+    // 이미 신청 시작 시각이 지난 공개 이벤트는 스케줄러를 기다리지 않고 바로 바꾼다.
+    public void updateStatus(LocalDateTime now) {
+        if(this.eventStatus == EventStatus.PUBLISHED
+                && this.beginEnrollmentDateTime != null
+                && !this.beginEnrollmentDateTime.isAfter(now)) {
+            this.eventStatus = EventStatus.BEGAN_ENROLLMENT;
+        }
+    }
+
     public void update() {
         // Update free
         if(this.basePrice == 0 && this.maxPrice == 0) {
@@ -3,140 +3,484 @@ package com.restapi.api.events;
 import com.restapi.api.account.Account;
 import com.restapi.api.account.AccountAdapter;
 import com.restapi.api.account.CurrentUser;
+import com.restapi.api.common.ETags;
 import com.restapi.api.common.ErrorsResource;
-import org.modelmapper.ModelMapper;
+import com.restapi.api.common.LinkTemplate;
+import com.restapi.api.common.StageTimer;
+import com.restapi.api.configs.AsyncConfig;
+import com.restapi.api.configs.BinaryFormatConfig;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PagedResourcesAssembler;
-import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.MediaTypes;
 import org.springframework.hateoas.PagedModel;
-import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.stereotype.Controller;
+import org.springframework.util.DigestUtils;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
 import org.springframework.validation.Errors;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
+import javax.validation.Validator;
+import java.io.IOException;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @Controller
-@RequestMapping(value = "/api/events", produces = MediaTypes.HAL_JSON_VALUE)
+@RequestMapping(value = "/api/events",
+        produces = {MediaTypes.HAL_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, BinaryFormatConfig.SMILE_VALUE})
 public class EventController {
 
+    public static final LinkTemplate EVENTS = LinkTemplate.of(EventController.class);
+
+    private static final int MAX_CURSOR_PAGE_SIZE = 2000;
+
+    private static final int MAX_BATCH_SIZE = 1000;
+
+    private static final int MAX_SEARCH_SIZE = 100;
+
+    private static final List<MediaType> REPRESENTATIONS = List.of(MediaTypes.HAL_JSON, MediaType.APPLICATION_CBOR,
+            MediaType.valueOf(BinaryFormatConfig.SMILE_VALUE));
+
     private final EventRepository eventRepository;
-    private final ModelMapper modelMapper;
+    private final EventService eventService;
+    private final EventMapper eventMapper;
     private  final EventVaildator eventVaildator;
+    private final SpringValidatorAdapter validator;
+    private final EventExporter eventExporter;
+    private final EventSearchIndex eventSearchIndex;
+    private final EnrollmentService enrollmentService;
+    private final StageTimer stageTimer;
+    private final AsyncTaskExecutor dbExecutor;
 
-    public EventController(EventRepository eventRepository, ModelMapper modelMapper, EventVaildator eventVaildator) {
+    public EventController(EventRepository eventRepository, EventService eventService, EventMapper eventMapper,
+                           EventVaildator eventVaildator, Validator validator, EventExporter eventExporter,
+                           EventSearchIndex eventSearchIndex, EnrollmentService enrollmentService, StageTimer stageTimer,
+                           @Qualifier(AsyncConfig.DB_EXECUTOR) AsyncTaskExecutor dbExecutor) {
         this.eventRepository = eventRepository;
-        this.modelMapper = modelMapper;
+        this.eventService = eventService;
+        this.eventMapper = eventMapper;
         this.eventVaildator = eventVaildator;
+        this.validator = new SpringValidatorAdapter(validator);
+        this.eventExporter = eventExporter;
+        this.eventSearchIndex = eventSearchIndex;
+        this.enrollmentService = enrollmentService;
+        this.stageTimer = stageTimer;
+        this.dbExecutor = dbExecutor;
     }
 
     @PostMapping
-    public ResponseEntity createEvent(@RequestBody @Valid EventDto eventDto,
-                                                    Errors errors,
-                                                    @CurrentUser Account currentUser) {
-        if(errors.hasErrors()) {
-            return badRequest(errors);
+    public CompletableFuture<ResponseEntity> createEvent(@RequestBody @Valid EventDto eventDto,
+                                                                       Errors errors,
+                                                                       @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                                                       @CurrentUser Account currentUser) {
+        if(currentUser == null) {
+            return CompletableFuture.completedFuture(new ResponseEntity(HttpStatus.UNAUTHORIZED));
         }
 
-        eventVaildator.validate(eventDto, errors);
+        return supplyAsync(() -> {
+            if(errors.hasErrors()) {
+                return badRequest(errors);
+            }
+
+            eventVaildator.validate(eventDto, errors);
+
+            if(errors.hasErrors()) {
+                return badRequest(errors);
+            }
 
-        if(errors.hasErrors()) {
-            return badRequest(errors);
+            Event event = this.eventMapper.toEvent(eventDto);
+            event.update();
+            event.setManager(currentUser);
+            Event newEvent = this.eventService.saveEvent(event);
+            URI createdUri =  EVENTS.toUri(newEvent.getId());
+
+            EventResource eventResource = this.stageTimer.record("links", () -> {
+                EventResource resource = new EventResource(event);
+                resource.add(EVENTS.withRel("query-events"));
+                resource.add(EVENTS.withRel(newEvent.getId(), "update-event"));
+                resource.add(new Link("/docs/index.html#resources-events-create").withRel("profile"));
+                return resource;
+            });
+
+            return ResponseEntity.created(createdUri)
+                    .eTag(ETags.of(newEvent.getVersion(), representation(accept)))
+                    .varyBy(HttpHeaders.ACCEPT)
+                    .body(eventResource);
+        });
+    }
+
+    @PostMapping("/batch")
+    public CompletableFuture<ResponseEntity> createEvents(@RequestBody List<EventDto> eventDtos,
+                                                          @CurrentUser Account currentUser) {
+        if(currentUser == null) {
+            return CompletableFuture.completedFuture(new ResponseEntity(HttpStatus.UNAUTHORIZED));
         }
 
-        Event event = modelMapper.map(eventDto, Event.class);
-        event.update();
-        event.setManager(currentUser);
-        Event newEvent = this.eventRepository.save(event);
-        WebMvcLinkBuilder selfLinkBuilder = linkTo(EventController.class).slash(newEvent.getId());
-        URI createdUri =  selfLinkBuilder.toUri();
-//        URI createdUri =  linkTo(EventController.class).slash(newEvent.getId()).toUri();
+        return supplyAsync(() -> {
+            BindingResult errors = new BeanPropertyBindingResult(eventDtos, "events");
+            if(eventDtos.isEmpty() || eventDtos.size() > MAX_BATCH_SIZE) {
+                errors.reject("wrongBatchSize", "Batch must contain 1 to " + MAX_BATCH_SIZE + " events");
+                return badRequest(errors);
+            }
+
+            // 항목별로 검증하고, 에러의 objectName 으로 몇 번째 항목인지 알려준다.
+            for(int i = 0; i < eventDtos.size(); i++) {
+                EventDto eventDto = eventDtos.get(i);
+                Errors itemErrors = new BeanPropertyBindingResult(eventDto, "events[" + i + "]");
+                this.stageTimer.record("bean-validation", () -> this.validator.validate(eventDto, itemErrors));
+                if(!itemErrors.hasErrors()) {
+                    this.eventVaildator.validate(eventDto, itemErrors);
+                }
+                itemErrors.getAllErrors().forEach(errors::addError);
+            }
+
+            if(errors.hasErrors()) {
+                return badRequest(errors);
+            }
+
+            List<Event> events = eventDtos.stream()
+                    .map(eventDto -> {
+                        Event event = this.eventMapper.toEvent(eventDto);
+                        event.update();
+                        event.setManager(currentUser);
+                        return event;
+                    })
+                    .collect(Collectors.toList());
+            List<Event> savedEvents = this.eventService.saveEvents(events);
+            List<EventResource> eventResources = this.stageTimer.record("links", () -> savedEvents.stream()
+                    .map(EventResource::new)
+                    .collect(Collectors.toList()));
 
-        EventResource eventResource = new EventResource(event);
-        eventResource.add(linkTo(EventController.class).withRel("query-events"));
-        eventResource.add(selfLinkBuilder.withRel("update-event"));
-        eventResource.add(new Link("/docs/index.html#resources-events-create").withRel("profile"));
+            CollectionModel<EventResource> batchResource = new CollectionModel<>(eventResources);
+            batchResource.add(EVENTS.withRel("query-events"));
+            batchResource.add(new Link("/docs/index.html#resources-events-create-batch").withRel("profile"));
 
-        return ResponseEntity.created(createdUri).body(eventResource);
+            return ResponseEntity.status(HttpStatus.CREATED).body(batchResource);
+        });
     }
 
     @GetMapping
-    public ResponseEntity queryEvents(Pageable pageable,
-                                      PagedResourcesAssembler<Event> pagedResourcesAssembler,
-                                      @CurrentUser Account currentUser) {
-        Page<Event> page = this.eventRepository.findAll(pageable);
-        PagedModel<EntityModel<Event>> pagedResource = pagedResourcesAssembler.toModel(page, EventResource::new);
-        pagedResource.add(new Link("/docs/index.html#resources-events-list").withRel("profile"));
-
-        if(currentUser != null) {
-            pagedResource.add(linkTo(EventController.class).withRel("create-event"));
-        }
+    public CompletableFuture<ResponseEntity> queryEvents(@ModelAttribute EventFilter filter,
+                                                         Pageable pageable,
+                                                         PagedResourcesAssembler<EventSummary> pagedResourcesAssembler,
+                                                         @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                                         @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                                         @CurrentUser Account currentUser) {
+        return supplyAsync(() -> {
+            Page<EventSummary> page = this.eventRepository.findSummaries(filter, pageable);
+            String eTag = pageETag(page, representation(accept));
+            if(ETags.matches(ifNoneMatch, eTag)) {
+                return notModified(eTag);
+            }
+
+            PagedModel<EventSummaryResource> pagedResource = this.stageTimer.record("links",
+                    () -> pagedResourcesAssembler.toModel(page, EventSummaryResource::new));
+            pagedResource.add(new Link("/docs/index.html#resources-events-list").withRel("profile"));
+
+            if(currentUser != null) {
+                pagedResource.add(EVENTS.withRel("create-event"));
+            }
+
+            return ResponseEntity.ok()
+                    .eTag(eTag)
+                    .varyBy(HttpHeaders.AUTHORIZATION, HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING)
+                    .body(pagedResource);
+        });
+    }
+
+    @GetMapping(params = "mode=cursor")
+    public CompletableFuture<ResponseEntity> queryEventsByCursor(@ModelAttribute EventFilter filter,
+                                                                 @RequestParam(required = false) String after,
+                                                                 @RequestParam(defaultValue = "20") int size,
+                                                                 @CurrentUser Account currentUser) {
+        return supplyAsync(() -> {
+            Integer lastId = EventCursor.decode(after);
+            if(lastId == null) {
+                return ResponseEntity.badRequest().build();
+            }
+
+            int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+            // 한 건을 더 읽어서 다음 페이지가 있는지 판단한다. (count 쿼리 없음)
+            List<EventSummary> events = this.eventRepository.findSummariesAfter(filter, lastId, pageSize + 1);
+            boolean hasNext = events.size() > pageSize;
+            if(hasNext) {
+                events = events.subList(0, pageSize);
+            }
+
+            List<EventSummaryResource> eventResources = events.stream()
+                    .map(EventSummaryResource::new)
+                    .collect(Collectors.toList());
+            CollectionModel<EventSummaryResource> cursorResource = new CollectionModel<>(eventResources);
+            cursorResource.add(new Link(ServletUriComponentsBuilder.fromCurrentRequest().toUriString()).withSelfRel());
+            if(hasNext) {
+                String nextCursor = EventCursor.encode(events.get(events.size() - 1).getId());
+                cursorResource.add(new Link(ServletUriComponentsBuilder.fromCurrentRequest()
+                        .replaceQueryParam("after", nextCursor)
+                        .toUriString()).withRel("next"));
+            }
+            cursorResource.add(new Link("/docs/index.html#resources-events-list-cursor").withRel("profile"));
+
+            if(currentUser != null) {
+                cursorResource.add(EVENTS.withRel("create-event"));
+            }
+
+            return ResponseEntity.ok(cursorResource);
+        });
+    }
+
+    @GetMapping(params = "mode=slice")
+    public CompletableFuture<ResponseEntity> queryEventsBySlice(@ModelAttribute EventFilter filter,
+                                                                Pageable pageable,
+                                                                @CurrentUser Account currentUser) {
+        return supplyAsync(() -> {
+            Slice<EventSummary> slice = this.eventRepository.findSummarySlice(filter, pageable);
+
+            List<EventSummaryResource> eventResources = slice.stream()
+                    .map(EventSummaryResource::new)
+                    .collect(Collectors.toList());
+            CollectionModel<EventSummaryResource> sliceResource = new CollectionModel<>(eventResources);
+            sliceResource.add(new Link(ServletUriComponentsBuilder.fromCurrentRequest().toUriString()).withSelfRel());
+            if(slice.hasNext()) {
+                sliceResource.add(new Link(ServletUriComponentsBuilder.fromCurrentRequest()
+                        .replaceQueryParam("page", slice.getNumber() + 1)
+                        .toUriString()).withRel("next"));
+            }
+            if(slice.hasPrevious()) {
+                sliceResource.add(new Link(ServletUriComponentsBuilder.fromCurrentRequest()
+                        .replaceQueryParam("page", slice.getNumber() - 1)
+                        .toUriString()).withRel("prev"));
+            }
+            sliceResource.add(new Link("/docs/index.html#resources-events-list-slice").withRel("profile"));
+
+            if(currentUser != null) {
+                sliceResource.add(EVENTS.withRel("create-event"));
+            }
 
-        return ResponseEntity.ok(pagedResource);
+            return ResponseEntity.ok(sliceResource);
+        });
+    }
+
+    @GetMapping("/search")
+    public CompletableFuture<ResponseEntity> searchEvents(@RequestParam String q,
+                                                          @RequestParam(defaultValue = "20") int size,
+                                                          @CurrentUser Account currentUser) {
+        return supplyAsync(() -> {
+            int limit = Math.min(Math.max(size, 1), MAX_SEARCH_SIZE);
+            List<Integer> ids = this.eventSearchIndex.search(q, limit);
+
+            // IN 절 결과는 순서가 없으므로 색인이 매긴 순서로 다시 정렬한다.
+            Map<Integer, Event> events = this.eventRepository.findAllById(ids).stream()
+                    .collect(Collectors.toMap(Event::getId, Function.identity()));
+            List<EventResource> eventResources = ids.stream()
+                    .map(events::get)
+                    .filter(Objects::nonNull)
+                    .map(EventResource::new)
+                    .collect(Collectors.toList());
+
+            CollectionModel<EventResource> searchResource = new CollectionModel<>(eventResources);
+            searchResource.add(new Link(ServletUriComponentsBuilder.fromCurrentRequest().toUriString()).withSelfRel());
+            searchResource.add(new Link("/docs/index.html#resources-events-search").withRel("profile"));
+
+            if(currentUser != null) {
+                searchResource.add(EVENTS.withRel("create-event"));
+            }
+
+            return ResponseEntity.ok(searchResource);
+        });
+    }
+
+    @GetMapping(value = "/export", produces = EventExporter.NDJSON_VALUE)
+    public void exportEvents(HttpServletResponse response) throws IOException {
+        response.setContentType(EventExporter.NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        this.eventExporter.export(response.getOutputStream());
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity getEvent(@PathVariable Integer id,
-                                                @CurrentUser Account currentUser) {
-        Optional<Event> optionalEvent = this.eventRepository.findById(id);
-        if(optionalEvent.isEmpty()) {
-            return ResponseEntity.notFound().build();
-        }
+    public CompletableFuture<ResponseEntity> getEvent(@PathVariable Integer id,
+                                                                   @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                                                   @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                                                   @CurrentUser Account currentUser) {
+        MediaType representation = representation(accept);
+        return supplyAsync(() -> {
+            // 버전만 조회해서 바뀌지 않았으면 엔티티를 읽거나 직렬화하지 않고 304 로 응답한다.
+            if(ifNoneMatch != null) {
+                Optional<Long> version = this.eventRepository.findVersionById(id);
+                if(version.isPresent() && ETags.matches(ifNoneMatch, ETags.of(version.get(), representation))) {
+                    return notModified(ETags.of(version.get(), representation));
+                }
+            }
 
-        Event event = optionalEvent.get();
-        EventResource eventResource = new EventResource(event);
-        eventResource.add(new Link("/docs/index.html#resources-events-get").withRel("profile"));
-        if(event.getManager().equals(currentUser)) {
-            eventResource.add(linkTo(EventController.class).slash(event.getId()).withRel("update-event"));
-        }
+            Optional<Event> optionalEvent = this.eventService.findEvent(id);
+            if(optionalEvent.isEmpty()) {
+                return ResponseEntity.notFound().build();
+            }
 
-        return ResponseEntity.ok(eventResource);
+            Event event = optionalEvent.get();
+            EventResource eventResource = this.stageTimer.record("links", () -> {
+                EventResource resource = new EventResource(event);
+                resource.add(new Link("/docs/index.html#resources-events-get").withRel("profile"));
+                if(event.isManagedBy(currentUser)) {
+                    resource.add(EVENTS.withRel(event.getId(), "update-event"));
+                }
+                return resource;
+            });
+
+            // If-Match 의 강한 비교에 쓰이므로 강한 ETag 를 유지한다. 대신 이 응답은 gzip 으로 압축되지 않는다.
+            return ResponseEntity.ok()
+                    .eTag(ETags.of(event.getVersion(), representation))
+                    .varyBy(HttpHeaders.AUTHORIZATION, HttpHeaders.ACCEPT)
+                    .body(eventResource);
+        });
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity updateEvent(@PathVariable Integer id,
-                                                    @RequestBody @Valid EventDto eventDto,
-                                                    Errors errors,
-                                                    @CurrentUser Account currentUser) {
-        Optional<Event> optionalEvent = this.eventRepository.findById(id);
-        if(optionalEvent.isEmpty()) {
-            return ResponseEntity.notFound().build();
-        }
+    public CompletableFuture<ResponseEntity> updateEvent(@PathVariable Integer id,
+                                                                       @RequestBody @Valid EventDto eventDto,
+                                                                       Errors errors,
+                                                                       @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                                       @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                                                       @CurrentUser Account currentUser) {
+        MediaType representation = representation(accept);
+        return supplyAsync(() -> {
+            Optional<Event> optionalEvent = this.eventRepository.findById(id);
+            if(optionalEvent.isEmpty()) {
+                return ResponseEntity.notFound().build();
+            }
 
-        if(errors.hasErrors()) {
-            return badRequest(errors);
-        }
+            if(errors.hasErrors()) {
+                return badRequest(errors);
+            }
+
+            this.eventVaildator.validate(eventDto, errors);
+            if(errors.hasErrors()) {
+                return badRequest(errors);
+            }
+
+            Event existingEvent = optionalEvent.get();
 
-        this.eventVaildator.validate(eventDto, errors);
-        if(errors.hasErrors()) {
-            return badRequest(errors);
+            if(!existingEvent.isManagedBy(currentUser)) {
+                return new ResponseEntity(HttpStatus.UNAUTHORIZED);
+            }
+
+            String currentETag = ETags.of(existingEvent.getVersion(), representation);
+            if(ifMatch != null && !ETags.matchesStrongly(ifMatch, currentETag)) {
+                return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).eTag(currentETag).build();
+            }
+
+            this.eventMapper.update(eventDto, existingEvent);
+            Event savedEvent;
+            try {
+                savedEvent = this.eventService.saveEvent(existingEvent);
+            } catch (ObjectOptimisticLockingFailureException e) {
+                return new ResponseEntity(HttpStatus.CONFLICT);
+            }
+
+            EventResource eventResource = this.stageTimer.record("links", () -> {
+                EventResource resource = new EventResource(savedEvent);
+                resource.add(new Link("/docs/index.html#resources-events-update").withRel("profile"));
+                return resource;
+            });
+
+            return ResponseEntity.ok()
+                    .eTag(ETags.of(savedEvent.getVersion(), representation))
+                    .varyBy(HttpHeaders.ACCEPT)
+                    .body(eventResource);
+        });
+    }
+
+    @PostMapping("/{id}/enrollments")
+    public CompletableFuture<ResponseEntity> enroll(@PathVariable Integer id, @CurrentUser Account currentUser) {
+        if(currentUser == null) {
+            return CompletableFuture.completedFuture(new ResponseEntity(HttpStatus.UNAUTHORIZED));
         }
 
-        Event existingEvent = optionalEvent.get();
+        return supplyAsync(() -> {
+            SeatReservation reservation = this.enrollmentService.enroll(id, currentUser);
+            switch (reservation.getResult()) {
+                case NO_EVENT:
+                    return ResponseEntity.notFound().build();
+                case RESERVED:
+                    SeatReservationResource reservationResource = new SeatReservationResource(reservation);
+                    reservationResource.add(new Link("/docs/index.html#resources-events-enroll").withRel("profile"));
+                    return ResponseEntity.ok().body(reservationResource);
+                default:
+                    return ResponseEntity.status(HttpStatus.CONFLICT).body(new SeatReservationResource(reservation));
+            }
+        });
+    }
+
+    // DB 실행기가 가득 차면 요청을 쌓아두지 않고 바로 503 으로 돌려보낸다.
+    @ExceptionHandler(TaskRejectedException.class)
+    public ResponseEntity dbExecutorSaturated() {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .build();
+    }
+
+    // DB 를 기다리는 동안 서블릿 스레드를 붙잡지 않도록 DB 전용 실행기에서 처리한다.
+    private CompletableFuture<ResponseEntity> supplyAsync(Supplier<ResponseEntity> supplier) {
+        return CompletableFuture.supplyAsync(supplier, this.dbExecutor);
+    }
 
-        if(!existingEvent.getManager().equals(currentUser)) {
-            return new ResponseEntity(HttpStatus.UNAUTHORIZED);
+    // 메시지 컨버터가 고르는 것과 같은 순서로 Accept 에 맞는 표현을 고른다.
+    private MediaType representation(String accept) {
+        List<MediaType> acceptable = new ArrayList<>(accept != null ? MediaType.parseMediaTypes(accept) : List.of(MediaType.ALL));
+        MediaType.sortBySpecificityAndQuality(acceptable);
+        for(MediaType type : acceptable) {
+            for(MediaType representation : REPRESENTATIONS) {
+                if(type.isCompatibleWith(representation)) {
+                    return representation;
+                }
+            }
         }
+        return MediaTypes.HAL_JSON;
+    }
+
+    private String pageETag(Page<EventSummary> page, MediaType representation) {
+        StringBuilder versions = new StringBuilder()
+                .append(page.getNumber()).append('/')
+                .append(page.getSize()).append('/')
+                .append(page.getTotalElements());
+        page.forEach(event -> versions.append(',').append(event.getId()).append(':').append(event.getVersion()));
 
-        this.modelMapper.map(eventDto, existingEvent);
-        Event savedEvent = this.eventRepository.save(existingEvent);
-        EventResource eventResource = new EventResource(savedEvent);
-        eventResource.add(new Link("/docs/index.html#resources-events-update").withRel("profile"));
+        return ETags.weak(DigestUtils.md5DigestAsHex(versions.toString().getBytes(StandardCharsets.UTF_8)), representation);
+    }
 
-        return ResponseEntity.ok(eventResource);
+    private ResponseEntity notModified(String eTag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(eTag)
+                .varyBy(HttpHeaders.AUTHORIZATION, HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING)
+                .build();
     }
 
     private ResponseEntity badRequest(Errors errors) {
@@ -0,0 +1,32 @@
+package com.restapi.api.events;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+public class EventCursor {
+
+    private static final String ID_KEY = "id:";
+
+    // 커서 모드는 id 오름차순으로만 정렬하므로 정렬 키와 id 가 같다.
+    public static String encode(Integer id) {
+        String raw = ID_KEY + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Integer decode(String token) {
+        if(token == null || token.isBlank()) {
+            return 0;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            if(!raw.startsWith(ID_KEY)) {
+                return null;
+            }
+            return Integer.valueOf(raw.substring(ID_KEY.length()));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,60 @@
+package com.restapi.api.events;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Component
+public class EventExporter {
+
+    public static final String NDJSON_VALUE = "application/x-ndjson";
+
+    private static final int FLUSH_INTERVAL = 500;
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @PersistenceContext
+    EntityManager entityManager;
+
+    // 서버 측 커서로 한 줄씩 내보내고, 쓴 엔티티는 바로 detach 해서 메모리 사용량을 일정하게 유지한다.
+    @Transactional(readOnly = true)
+    public void export(OutputStream outputStream) throws IOException {
+        ObjectWriter writer = this.objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        JsonGenerator generator = this.objectMapper.getFactory().createGenerator(outputStream);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null);
+
+        try (Stream<Event> events = this.eventRepository.streamAll()) {
+            Iterator<Event> iterator = events.iterator();
+            int count = 0;
+            while(iterator.hasNext()) {
+                Event event = iterator.next();
+                writer.writeValue(generator, event);
+                generator.writeRaw('\n');
+                this.entityManager.detach(event);
+
+                if(++count % FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                }
+            }
+        }
+
+        generator.flush();
+    }
+
+}
@@ -0,0 +1,9 @@
+package com.restapi.api.events;
+
+public interface EventMapper {
+
+    Event toEvent(EventDto eventDto);
+
+    void update(EventDto eventDto, Event event);
+
+}
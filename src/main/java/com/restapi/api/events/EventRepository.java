@@ -1,6 +1,78 @@
 package com.restapi.api.events;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+
+public interface EventRepository extends JpaRepository<Event, Integer>, EventRepositoryCustom {
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("select e from Event e order by e.id")
+    Stream<Event> streamAll();
+
+    @Query("select e.version from Event e where e.id = :id")
+    Optional<Long> findVersionById(@Param("id") Integer id);
+
+    @Query("select e.eventStatus as eventStatus, e.closeEnrollmentDateTime as closeEnrollmentDateTime, " +
+            "e.limitOfEnrollment as limitOfEnrollment, e.reservedSeats as reservedSeats from Event e where e.id = :id")
+    Optional<EventSeats> findSeatsById(@Param("id") Integer id);
+
+    // 신청 기간 중이고 정원이 남았을 때만 좌석을 한 묶음 임대한다. 0 이면 그 사이에 다른 인스턴스가 가져갔다.
+    @Transactional
+    @Modifying
+    @Query("update Event e set e.reservedSeats = e.reservedSeats + :count, e.seatsLeasedUntil = :until " +
+            "where e.id = :id and e.eventStatus = :status and e.closeEnrollmentDateTime > :now " +
+            "and e.reservedSeats + :count <= e.limitOfEnrollment")
+    int leaseSeats(@Param("id") Integer id, @Param("count") int count, @Param("status") EventStatus status,
+                   @Param("now") LocalDateTime now, @Param("until") LocalDateTime until);
+
+    @Transactional
+    @Modifying
+    @Query("update Event e set e.reservedSeats = e.reservedSeats - :count where e.id = :id")
+    int releaseSeats(@Param("id") Integer id, @Param("count") int count);
+
+    // 신청 중이고 임대가 모두 끝난 이벤트만 enrollment 와 한 번 조인해서 센다.
+    @Query("select e.id as id, count(en) as enrolled from Event e left join Enrollment en on en.event = e " +
+            "where e.eventStatus = :status and (e.seatsLeasedUntil is null or e.seatsLeasedUntil < :cutoff) " +
+            "group by e.id, e.reservedSeats having e.reservedSeats <> count(en)")
+    List<SeatCount> findSeatDrift(@Param("status") EventStatus status, @Param("cutoff") LocalDateTime cutoff);
+
+    // 센 뒤에 새로 임대했으면 건드리지 않는다.
+    @Transactional
+    @Modifying
+    @Query("update Event e set e.reservedSeats = :reservedSeats " +
+            "where e.id = :id and (e.seatsLeasedUntil is null or e.seatsLeasedUntil < :cutoff)")
+    int updateReservedSeats(@Param("id") Integer id, @Param("reservedSeats") int reservedSeats,
+                            @Param("cutoff") LocalDateTime cutoff);
+
+    @Query("select e.id as id, e.beginEnrollmentDateTime as beginEnrollmentDateTime from Event e " +
+            "where e.eventStatus = :status and e.beginEnrollmentDateTime > :now")
+    List<EnrollmentOpening> findEnrollmentOpenings(@Param("status") EventStatus status, @Param("now") LocalDateTime now);
+
+    // 상태와 시각 조건을 함께 걸어서, 그 사이에 바뀐 이벤트는 건드리지 않는다.
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update Event e set e.eventStatus = :to, e.version = e.version + 1 " +
+            "where e.id in :ids and e.eventStatus = :from and e.beginEnrollmentDateTime <= :now")
+    int updateStatus(@Param("ids") Collection<Integer> ids, @Param("from") EventStatus from,
+                     @Param("to") EventStatus to, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update Event e set e.eventStatus = :to, e.version = e.version + 1 " +
+            "where e.eventStatus = :from and e.beginEnrollmentDateTime <= :now")
+    int updateDueStatus(@Param("from") EventStatus from, @Param("to") EventStatus to, @Param("now") LocalDateTime now);
 
-public interface EventRepository extends JpaRepository<Event, Integer> {
 }
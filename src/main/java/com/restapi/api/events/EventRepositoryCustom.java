@@ -0,0 +1,17 @@
+package com.restapi.api.events;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+public interface EventRepositoryCustom {
+
+    Page<EventSummary> findSummaries(EventFilter filter, Pageable pageable);
+
+    Slice<EventSummary> findSummarySlice(EventFilter filter, Pageable pageable);
+
+    List<EventSummary> findSummariesAfter(EventFilter filter, Integer lastId, int limit);
+
+}
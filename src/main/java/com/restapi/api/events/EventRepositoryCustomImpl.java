@@ -0,0 +1,129 @@
+package com.restapi.api.events;
+
+import com.restapi.api.account.Account;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.repository.support.PageableExecutionUtils;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.TypedQuery;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Join;
+import javax.persistence.criteria.JoinType;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// 목록 조회는 EventSummary 로 바로 읽고, 조건은 Event 의 인덱스 컬럼에만 건다.
+public class EventRepositoryCustomImpl implements EventRepositoryCustom {
+
+    @PersistenceContext
+    EntityManager entityManager;
+
+    @Override
+    public Page<EventSummary> findSummaries(EventFilter filter, Pageable pageable) {
+        List<EventSummary> content = summaryQuery(filter, pageable.getSort())
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(filter));
+    }
+
+    // 한 건을 더 읽어서 다음 페이지가 있는지만 판단한다. (count 쿼리 없음)
+    @Override
+    public Slice<EventSummary> findSummarySlice(EventFilter filter, Pageable pageable) {
+        List<EventSummary> content = summaryQuery(filter, pageable.getSort())
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList();
+
+        boolean hasNext = content.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+    }
+
+    // 커서 모드는 id 오름차순 keyset 조회라서 앞 페이지를 건너뛰지 않는다.
+    @Override
+    public List<EventSummary> findSummariesAfter(EventFilter filter, Integer lastId, int limit) {
+        return summaryQuery(filter, lastId, Sort.by("id"))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private TypedQuery<EventSummary> summaryQuery(EventFilter filter, Sort sort) {
+        return summaryQuery(filter, null, sort);
+    }
+
+    private TypedQuery<EventSummary> summaryQuery(EventFilter filter, Integer lastId, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<EventSummary> query = cb.createQuery(EventSummary.class);
+        Root<Event> event = query.from(Event.class);
+        Join<Event, Account> manager = event.join("manager", JoinType.LEFT);
+
+        query.select(cb.construct(EventSummary.class,
+                event.get("id"), event.get("version"), event.get("name"), event.get("description"),
+                event.get("beginEnrollmentDateTime"), event.get("closeEnrollmentDateTime"),
+                event.get("beginEventDateTime"), event.get("endEventDateTime"),
+                event.get("location"), event.get("basePrice"), event.get("maxPrice"), event.get("limitOfEnrollment"),
+                event.get("offline"), event.get("free"), event.get("eventStatus"), manager.get("id")))
+                .where(predicates(filter, lastId, cb, event))
+                .orderBy(QueryUtils.toOrders(sort, event, cb));
+
+        return entityManager.createQuery(query);
+    }
+
+    private long count(EventFilter filter) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Event> event = query.from(Event.class);
+        query.select(cb.count(event))
+                .where(predicates(filter, null, cb, event));
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private Predicate[] predicates(EventFilter filter, Integer lastId, CriteriaBuilder cb, Root<Event> event) {
+        List<Predicate> predicates = new ArrayList<>();
+        if(lastId != null) {
+            predicates.add(cb.greaterThan(event.<Integer>get("id"), lastId));
+        }
+        if(filter.getEventStatus() != null) {
+            predicates.add(cb.equal(event.get("eventStatus"), filter.getEventStatus()));
+        }
+        if(filter.getFree() != null) {
+            predicates.add(cb.equal(event.get("free"), filter.getFree()));
+        }
+        if(filter.getOffline() != null) {
+            predicates.add(cb.equal(event.get("offline"), filter.getOffline()));
+        }
+        if(filter.getPriceFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(event.<Integer>get("basePrice"), filter.getPriceFrom()));
+        }
+        if(filter.getPriceTo() != null) {
+            predicates.add(cb.lessThanOrEqualTo(event.<Integer>get("basePrice"), filter.getPriceTo()));
+        }
+        // 등록 기간이 [enrollmentFrom, enrollmentTo] 와 겹치는 이벤트
+        if(filter.getEnrollmentFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(event.<LocalDateTime>get("closeEnrollmentDateTime"), filter.getEnrollmentFrom()));
+        }
+        if(filter.getEnrollmentTo() != null) {
+            predicates.add(cb.lessThanOrEqualTo(event.<LocalDateTime>get("beginEnrollmentDateTime"), filter.getEnrollmentTo()));
+        }
+        if(filter.getBeginEventFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(event.<LocalDateTime>get("beginEventDateTime"), filter.getBeginEventFrom()));
+        }
+        if(filter.getBeginEventTo() != null) {
+            predicates.add(cb.lessThanOrEqualTo(event.<LocalDateTime>get("beginEventDateTime"), filter.getBeginEventTo()));
+        }
+        return predicates.toArray(new Predicate[0]);
+    }
+
+}
@@ -0,0 +1,230 @@
+package com.restapi.api.events;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// name, description 역색인. 한글은 음절 bigram 과 한 음절, 영문과 숫자는 단어 단위로 색인한다.
+// 이벤트를 저장할 때마다 EventService 가 갱신하고, 애플리케이션이 뜰 때 DB 에서 다시 만든다.
+@Component
+public class EventSearchIndex {
+
+    private static final int NAME_WEIGHT = 3;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @PersistenceContext
+    EntityManager entityManager;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<String, Map<Integer, Integer>> postings = new HashMap<>();
+    private Map<Integer, Set<String>> tokensByEvent = new HashMap<>();
+    // 다시 만드는 동안 들어온 갱신. 새 색인으로 바꾸기 직전에 다시 적용한다.
+    private Map<Integer, Map<String, Integer>> pendingDuringRebuild;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            this.pendingDuringRebuild = new HashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Map<String, Map<Integer, Integer>> newPostings = new HashMap<>();
+        Map<Integer, Set<String>> newTokensByEvent = new HashMap<>();
+        try (Stream<Event> events = this.eventRepository.streamAll()) {
+            events.forEach(event -> {
+                add(event.getId(), weights(event), newPostings, newTokensByEvent);
+                this.entityManager.detach(event);
+            });
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                this.pendingDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            // DB 스냅샷보다 나중에 들어온 갱신이 덮어쓰도록 바꾸기 전에 다시 적용한다.
+            this.pendingDuringRebuild.forEach((id, weights) -> {
+                remove(id, newPostings, newTokensByEvent);
+                add(id, weights, newPostings, newTokensByEvent);
+            });
+            this.pendingDuringRebuild = null;
+            this.postings = newPostings;
+            this.tokensByEvent = newTokensByEvent;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void index(Event event) {
+        Map<String, Integer> weights = weights(event);
+
+        lock.writeLock().lock();
+        try {
+            remove(event.getId(), this.postings, this.tokensByEvent);
+            add(event.getId(), weights, this.postings, this.tokensByEvent);
+            if (this.pendingDuringRebuild != null) {
+                this.pendingDuringRebuild.put(event.getId(), weights);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 모든 검색어 토큰을 포함하는 이벤트만 점수 순서로 돌려준다.
+    public List<Integer> search(String query, int limit) {
+        Set<String> tokens = new LinkedHashSet<>(tokenize(query));
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Integer, Integer> scores;
+        lock.readLock().lock();
+        try {
+            List<Map<Integer, Integer>> matches = new ArrayList<>();
+            for (String token : tokens) {
+                Map<Integer, Integer> posting = this.postings.get(token);
+                if (posting == null) {
+                    return List.of();
+                }
+                matches.add(posting);
+            }
+            matches.sort(Comparator.comparingInt(Map::size));
+
+            scores = new HashMap<>(matches.get(0));
+            for (Map<Integer, Integer> posting : matches.subList(1, matches.size())) {
+                scores.entrySet().removeIf(entry -> !posting.containsKey(entry.getKey()));
+                scores.replaceAll((id, score) -> score + posting.get(id));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<Integer, Integer>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+    }
+
+    // 검색어 토큰. 한 음절 한글 단어는 그 음절 하나가 토큰이다.
+    static List<String> tokenize(String text) {
+        return tokenize(text, false);
+    }
+
+    // 색인 토큰. 한 음절 검색어도 찾을 수 있도록 한글은 bigram 에 더해 음절마다 색인한다.
+    static List<String> indexTokens(String text) {
+        return tokenize(text, true);
+    }
+
+    private static List<String> tokenize(String text, boolean unigrams) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+
+        String normalized = text.toLowerCase(Locale.ROOT);
+        StringBuilder word = new StringBuilder();
+        boolean hangulWord = false;
+        for (int i = 0; i < normalized.length(); ) {
+            int codePoint = normalized.codePointAt(i);
+            i += Character.charCount(codePoint);
+
+            if (!Character.isLetterOrDigit(codePoint)) {
+                flush(word, hangulWord, unigrams, tokens);
+                continue;
+            }
+
+            boolean hangul = Character.UnicodeScript.of(codePoint) == Character.UnicodeScript.HANGUL;
+            if (word.length() > 0 && hangul != hangulWord) {
+                flush(word, hangulWord, unigrams, tokens);
+            }
+            hangulWord = hangul;
+            word.appendCodePoint(codePoint);
+        }
+        flush(word, hangulWord, unigrams, tokens);
+
+        return tokens;
+    }
+
+    private static void flush(StringBuilder word, boolean hangul, boolean unigrams, List<String> tokens) {
+        if (word.length() == 0) {
+            return;
+        }
+
+        if (hangul && word.length() > 1) {
+            // 한글은 조사가 붙어도 찾을 수 있도록 두 글자씩 겹쳐서 자른다.
+            for (int i = 0; i + 1 < word.length(); i++) {
+                tokens.add(word.substring(i, i + 2));
+            }
+            if (unigrams) {
+                for (int i = 0; i < word.length(); i++) {
+                    tokens.add(word.substring(i, i + 1));
+                }
+            }
+        } else {
+            tokens.add(word.toString());
+        }
+        word.setLength(0);
+    }
+
+    private static Map<String, Integer> weights(Event event) {
+        Map<String, Integer> weights = new HashMap<>();
+        indexTokens(event.getName()).forEach(token -> weights.merge(token, NAME_WEIGHT, Integer::sum));
+        indexTokens(event.getDescription()).forEach(token -> weights.merge(token, DESCRIPTION_WEIGHT, Integer::sum));
+        return weights;
+    }
+
+    private static void add(Integer id, Map<String, Integer> weights,
+                            Map<String, Map<Integer, Integer>> postings, Map<Integer, Set<String>> tokensByEvent) {
+        weights.forEach((token, weight) -> postings.computeIfAbsent(token, t -> new HashMap<>()).put(id, weight));
+        tokensByEvent.put(id, weights.keySet());
+    }
+
+    private static void remove(Integer id,
+                               Map<String, Map<Integer, Integer>> postings, Map<Integer, Set<String>> tokensByEvent) {
+        Set<String> tokens = tokensByEvent.remove(id);
+        if (tokens == null) {
+            return;
+        }
+
+        for (String token : tokens) {
+            Map<Integer, Integer> posting = postings.get(token);
+            if (posting != null) {
+                posting.remove(id);
+                if (posting.isEmpty()) {
+                    postings.remove(token);
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,16 @@
+package com.restapi.api.events;
+
+import java.time.LocalDateTime;
+
+// 참가 신청을 받을 수 있는지 판단하는 데 필요한 컬럼만 읽는 프로젝션.
+public interface EventSeats {
+
+    EventStatus getEventStatus();
+
+    LocalDateTime getCloseEnrollmentDateTime();
+
+    int getLimitOfEnrollment();
+
+    int getReservedSeats();
+
+}
@@ -0,0 +1,54 @@
+package com.restapi.api.events;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Service
+public class EventService {
+
+    public static final String EVENTS_CACHE = "events";
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    EventSearchIndex eventSearchIndex;
+
+    @Autowired
+    EventStatusScheduler eventStatusScheduler;
+
+    @Autowired
+    EnrollmentService enrollmentService;
+
+    // 조회 결과만 캐시하고, 없는 이벤트(404)는 캐시하지 않는다.
+    @Cacheable(cacheNames = EVENTS_CACHE, unless = "#result == null")
+    public Optional<Event> findEvent(Integer id) {
+        return this.eventRepository.findById(id);
+    }
+
+    @CachePut(cacheNames = EVENTS_CACHE, key = "#result.id")
+    public Event saveEvent(Event event) {
+        event.updateStatus(LocalDateTime.now());
+        Event savedEvent = this.eventRepository.save(event);
+        this.eventSearchIndex.index(savedEvent);
+        this.eventStatusScheduler.schedule(savedEvent);
+        this.enrollmentService.release(savedEvent.getId());
+        return savedEvent;
+    }
+
+    public List<Event> saveEvents(List<Event> events) {
+        LocalDateTime now = LocalDateTime.now();
+        events.forEach(event -> event.updateStatus(now));
+        List<Event> savedEvents = this.eventRepository.saveAll(events);
+        savedEvents.forEach(this.eventSearchIndex::index);
+        savedEvents.forEach(this.eventStatusScheduler::schedule);
+        return savedEvents;
+    }
+
+}
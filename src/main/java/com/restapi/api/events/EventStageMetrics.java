@@ -0,0 +1,42 @@
+package com.restapi.api.events;
+
+import com.restapi.api.common.StageTimer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+// 이벤트 요청이 거치는 빈의 호출 시간을 StageTimer 에 단계별로 기록한다.
+@Aspect
+@Component
+public class EventStageMetrics {
+
+    @Autowired
+    StageTimer stageTimer;
+
+    @Around("execution(* com.restapi.api.events.EventVaildator.*(..))")
+    public Object validation(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record("validation", joinPoint);
+    }
+
+    @Around("execution(* com.restapi.api.events.EventMapper+.*(..))")
+    public Object mapping(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record("mapping", joinPoint);
+    }
+
+    @Around("this(com.restapi.api.events.EventRepository) || this(com.restapi.api.events.EnrollmentRepository)")
+    public Object repository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record("repository", joinPoint);
+    }
+
+    private Object record(String stage, ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            this.stageTimer.record(stage, System.nanoTime() - start);
+        }
+    }
+
+}
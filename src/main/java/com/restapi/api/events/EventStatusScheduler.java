@@ -0,0 +1,176 @@
+package com.restapi.api.events;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ScheduledFuture;
+
+// PUBLISHED 이벤트가 beginEnrollmentDateTime 을 지나면 BEGAN_ENROLLMENT 로 바꾼다.
+// 다가올 시각을 큐에 쌓아두고 가장 이른 시각에만 타이머를 걸어서, 테이블을 주기적으로 훑지 않는다.
+// 이벤트마다 시각은 하나만 두고, 다시 저장하면 바꾸고 PUBLISHED 가 아니게 되면 뺀다.
+@Component
+public class EventStatusScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(EventStatusScheduler.class);
+
+    private static final int UPDATE_CHUNK_SIZE = 500;
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(5);
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    TaskScheduler taskScheduler;
+
+    @Autowired
+    CacheManager cacheManager;
+
+    private final TreeSet<Deadline> deadlines = new TreeSet<>(Comparator.<Deadline, LocalDateTime>comparing(deadline -> deadline.at)
+            .thenComparing(deadline -> deadline.eventId));
+    private final Map<Integer, Deadline> deadlineByEvent = new HashMap<>();
+    private ScheduledFuture<?> timer;
+    private LocalDateTime armedAt;
+
+    // 꺼져 있던 동안 지난 이벤트는 한 번에 바꾸고, 남은 이벤트의 시각만 다시 큐에 올린다.
+    @EventListener(ApplicationReadyEvent.class)
+    public void rearm() {
+        LocalDateTime now = LocalDateTime.now();
+        int updated = this.eventRepository.updateDueStatus(EventStatus.PUBLISHED, EventStatus.BEGAN_ENROLLMENT, now);
+        if (updated > 0) {
+            evictAll();
+        }
+
+        List<EnrollmentOpening> openings = this.eventRepository.findEnrollmentOpenings(EventStatus.PUBLISHED, now);
+        synchronized (this) {
+            openings.forEach(opening -> put(new Deadline(opening.getId(), opening.getBeginEnrollmentDateTime())));
+            arm();
+        }
+    }
+
+    public void schedule(Event event) {
+        synchronized (this) {
+            if (event.getEventStatus() != EventStatus.PUBLISHED || event.getBeginEnrollmentDateTime() == null) {
+                remove(event.getId());
+                return;
+            }
+            put(new Deadline(event.getId(), event.getBeginEnrollmentDateTime()));
+            arm();
+        }
+    }
+
+    public synchronized int pendingCount() {
+        return this.deadlineByEvent.size();
+    }
+
+    // 시각이 지난 이벤트를 모두 꺼내서 UPDATE 몇 번으로 바꾸고, 다음 시각에 타이머를 다시 건다.
+    void fire() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Deadline> due = new ArrayList<>();
+        synchronized (this) {
+            this.timer = null;
+            this.armedAt = null;
+            while (!this.deadlines.isEmpty() && !this.deadlines.first().at.isAfter(now)) {
+                Deadline deadline = this.deadlines.pollFirst();
+                this.deadlineByEvent.remove(deadline.eventId);
+                due.add(deadline);
+            }
+        }
+
+        try {
+            for (int from = 0; from < due.size(); from += UPDATE_CHUNK_SIZE) {
+                List<Integer> ids = new ArrayList<>();
+                due.subList(from, Math.min(from + UPDATE_CHUNK_SIZE, due.size())).forEach(deadline -> ids.add(deadline.eventId));
+                this.eventRepository.updateStatus(ids, EventStatus.PUBLISHED, EventStatus.BEGAN_ENROLLMENT, now);
+                evict(ids);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Failed to update status of {} events, retrying in {}", due.size(), RETRY_DELAY, e);
+            synchronized (this) {
+                // 그 사이에 다시 저장된 이벤트는 새 시각을 그대로 둔다.
+                due.stream()
+                        .filter(deadline -> !this.deadlineByEvent.containsKey(deadline.eventId))
+                        .forEach(this::put);
+                arm(now.plus(RETRY_DELAY));
+            }
+            return;
+        }
+
+        synchronized (this) {
+            arm();
+        }
+    }
+
+    private void put(Deadline deadline) {
+        remove(deadline.eventId);
+        this.deadlines.add(deadline);
+        this.deadlineByEvent.put(deadline.eventId, deadline);
+    }
+
+    private void remove(Integer eventId) {
+        Deadline deadline = this.deadlineByEvent.remove(eventId);
+        if (deadline != null) {
+            this.deadlines.remove(deadline);
+        }
+    }
+
+    private void arm() {
+        if (!this.deadlines.isEmpty()) {
+            arm(this.deadlines.first().at);
+        }
+    }
+
+    // 이미 더 이른 시각에 걸린 타이머가 있으면 그대로 둔다.
+    private void arm(LocalDateTime at) {
+        if (this.armedAt != null && !at.isBefore(this.armedAt)) {
+            return;
+        }
+        if (this.timer != null) {
+            this.timer.cancel(false);
+        }
+        this.armedAt = at;
+        this.timer = this.taskScheduler.schedule(this::fire, at.atZone(ZoneId.systemDefault()).toInstant());
+    }
+
+    private void evict(List<Integer> ids) {
+        Cache cache = this.cacheManager.getCache(EventService.EVENTS_CACHE);
+        if (cache != null) {
+            ids.forEach(cache::evict);
+        }
+    }
+
+    private void evictAll() {
+        Cache cache = this.cacheManager.getCache(EventService.EVENTS_CACHE);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    private static class Deadline {
+
+        final Integer eventId;
+        final LocalDateTime at;
+
+        Deadline(Integer eventId, LocalDateTime at) {
+            this.eventId = eventId;
+            this.at = at;
+        }
+    }
+
+}
@@ -0,0 +1,59 @@
+package com.restapi.api.events;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.restapi.api.account.Account;
+import com.restapi.api.account.AccountSerializer;
+import lombok.Getter;
+import org.springframework.hateoas.server.core.Relation;
+
+import java.time.LocalDateTime;
+
+// 목록 조회 전용 읽기 모델. 영속성 컨텍스트에 올라가지 않고, JSON 모양은 Event 와 같다.
+@Getter
+@Relation(value = "event", collectionRelation = "eventList")
+public class EventSummary {
+
+    private final Integer id;
+    @JsonIgnore
+    private final Long version;
+    private final String name;
+    private final String description;
+    private final LocalDateTime beginEnrollmentDateTime;
+    private final LocalDateTime closeEnrollmentDateTime;
+    private final LocalDateTime beginEventDateTime;
+    private final LocalDateTime endEventDateTime;
+    private final String location;
+    private final int basePrice;
+    private final int maxPrice;
+    private final int limitOfEnrollment;
+    private final boolean offline;
+    private final boolean free;
+    private final EventStatus eventStatus;
+    @JsonSerialize(using = AccountSerializer.class)
+    private final Account manager;
+
+    public EventSummary(Integer id, Long version, String name, String description,
+                        LocalDateTime beginEnrollmentDateTime, LocalDateTime closeEnrollmentDateTime,
+                        LocalDateTime beginEventDateTime, LocalDateTime endEventDateTime,
+                        String location, int basePrice, int maxPrice, int limitOfEnrollment,
+                        boolean offline, boolean free, EventStatus eventStatus, Integer managerId) {
+        this.id = id;
+        this.version = version;
+        this.name = name;
+        this.description = description;
+        this.beginEnrollmentDateTime = beginEnrollmentDateTime;
+        this.closeEnrollmentDateTime = closeEnrollmentDateTime;
+        this.beginEventDateTime = beginEventDateTime;
+        this.endEventDateTime = endEventDateTime;
+        this.location = location;
+        this.basePrice = basePrice;
+        this.maxPrice = maxPrice;
+        this.limitOfEnrollment = limitOfEnrollment;
+        this.offline = offline;
+        this.free = free;
+        this.eventStatus = eventStatus;
+        this.manager = managerId == null ? null : Account.builder().id(managerId).build();
+    }
+
+}
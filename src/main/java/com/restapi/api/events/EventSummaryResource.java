@@ -0,0 +1,13 @@
+package com.restapi.api.events;
+
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.Link;
+
+public class EventSummaryResource extends EntityModel<EventSummary> {
+
+    public EventSummaryResource(EventSummary event, Link... links) {
+        super(event, links);
+        add(EventController.EVENTS.withSelfRel(event.getId()));
+    }
+
+}
@@ -0,0 +1,27 @@
+package com.restapi.api.events;
+
+import org.modelmapper.ModelMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(prefix = "my-app", name = "event-mapper", havingValue = "model-mapper")
+public class ModelMapperEventMapper implements EventMapper {
+
+    private final ModelMapper modelMapper;
+
+    public ModelMapperEventMapper(ModelMapper modelMapper) {
+        this.modelMapper = modelMapper;
+    }
+
+    @Override
+    public Event toEvent(EventDto eventDto) {
+        return this.modelMapper.map(eventDto, Event.class);
+    }
+
+    @Override
+    public void update(EventDto eventDto, Event event) {
+        this.modelMapper.map(eventDto, event);
+    }
+
+}
@@ -0,0 +1,10 @@
+package com.restapi.api.events;
+
+// 이벤트별 실제 신청 수를 읽는 프로젝션.
+public interface SeatCount {
+
+    Integer getId();
+
+    long getEnrolled();
+
+}
@@ -0,0 +1,21 @@
+package com.restapi.api.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter @AllArgsConstructor
+public class SeatReservation {
+
+    public enum Result {
+        RESERVED, ALREADY_ENROLLED, SOLD_OUT, NOT_OPEN, CLOSED, NO_EVENT
+    }
+
+    private final Integer eventId;
+    private final Result result;
+    private final int remainingSeats;
+
+    public boolean isReserved() {
+        return this.result == Result.RESERVED;
+    }
+
+}
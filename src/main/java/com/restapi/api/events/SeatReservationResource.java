@@ -0,0 +1,13 @@
+package com.restapi.api.events;
+
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.Link;
+
+public class SeatReservationResource extends EntityModel<SeatReservation> {
+
+    public SeatReservationResource(SeatReservation reservation, Link... links) {
+        super(reservation, links);
+        add(EventController.EVENTS.withRel(reservation.getEventId(), "event"));
+    }
+
+}
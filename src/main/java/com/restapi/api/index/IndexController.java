@@ -1,20 +1,21 @@
 package com.restapi.api.index;
 
+import com.restapi.api.common.LinkTemplate;
 import com.restapi.api.events.EventController;
 import org.springframework.hateoas.RepresentationModel;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-
 
 @RestController
 public class IndexController {
 
+    public static final LinkTemplate INDEX = LinkTemplate.of(IndexController.class, "index");
+
     @GetMapping("/api")
     public RepresentationModel index() {
         var index = new RepresentationModel<>();
-        index.add(linkTo(EventController.class).withRel("events"));
+        index.add(EventController.EVENTS.withRel("events"));
 
         return index;
     }
@@ -0,0 +1,60 @@
+package com.restapi.api.oauth;
+
+import com.restapi.api.account.Account;
+import com.restapi.api.account.AccountAdapter;
+import com.restapi.api.account.AccountRole;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.provider.token.DefaultUserAuthenticationConverter;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// 토큰에 계정 id 와 권한을 담아두고, 요청마다 DB 조회 없이 AccountAdapter 를 다시 만든다.
+public class AccountUserAuthenticationConverter extends DefaultUserAuthenticationConverter {
+
+    public static final String ACCOUNT_ID = "account_id";
+
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    @Override
+    public Map<String, ?> convertUserAuthentication(Authentication authentication) {
+        Map<String, Object> response = new LinkedHashMap<>(super.convertUserAuthentication(authentication));
+        if (authentication.getPrincipal() instanceof AccountAdapter) {
+            response.put(ACCOUNT_ID, ((AccountAdapter) authentication.getPrincipal()).getAccount().getId());
+        }
+        return response;
+    }
+
+    @Override
+    public Authentication extractAuthentication(Map<String, ?> map) {
+        if (!map.containsKey(USERNAME) || !map.containsKey(ACCOUNT_ID)) {
+            return super.extractAuthentication(map);
+        }
+
+        Account account = Account.builder()
+                .id(((Number) map.get(ACCOUNT_ID)).intValue())
+                .email((String) map.get(USERNAME))
+                .password("")
+                .roles(roles(map.get(AUTHORITIES)))
+                .build();
+        AccountAdapter principal = new AccountAdapter(account);
+        return new UsernamePasswordAuthenticationToken(principal, "N/A", principal.getAuthorities());
+    }
+
+    private static Set<AccountRole> roles(Object authorities) {
+        if (!(authorities instanceof Collection)) {
+            return Set.of();
+        }
+
+        return ((Collection<?>) authorities).stream()
+                .map(Object::toString)
+                .filter(authority -> authority.startsWith(ROLE_PREFIX))
+                .map(authority -> AccountRole.valueOf(authority.substring(ROLE_PREFIX.length())))
+                .collect(Collectors.toSet());
+    }
+
+}
@@ -0,0 +1,75 @@
+package com.restapi.api.oauth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.security.crypto.codec.Hex;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+
+// 서비스 클라이언트는 토큰마다 같은 secret 으로 인증하므로, 한 번 검증에 성공한 secret 은 BCrypt 없이 통과시킨다.
+// 캐시에는 secret 대신 프로세스마다 새로 만든 키로 계산한 HMAC 만 남긴다.
+public class CachingClientSecretEncoder implements PasswordEncoder {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final PasswordEncoder delegate;
+    private final SecretKeySpec fingerprintKey;
+    private final Cache<String, Boolean> verifiedSecrets = Caffeine.newBuilder()
+            .maximumSize(1_000)
+            .expireAfterWrite(10, TimeUnit.MINUTES)
+            .build();
+
+    public CachingClientSecretEncoder(PasswordEncoder delegate) {
+        this.delegate = delegate;
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        this.fingerprintKey = new SecretKeySpec(key, HMAC_ALGORITHM);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return this.delegate.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        if (rawPassword == null || encodedPassword == null) {
+            return this.delegate.matches(rawPassword, encodedPassword);
+        }
+
+        String fingerprint = fingerprint(rawPassword, encodedPassword);
+        if (this.verifiedSecrets.getIfPresent(fingerprint) != null) {
+            return true;
+        }
+
+        boolean matches = this.delegate.matches(rawPassword, encodedPassword);
+        if (matches) {
+            this.verifiedSecrets.put(fingerprint, Boolean.TRUE);
+        }
+        return matches;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return this.delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private String fingerprint(CharSequence rawPassword, String encodedPassword) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(this.fingerprintKey);
+            mac.update(encodedPassword.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            return new String(Hex.encode(mac.doFinal(rawPassword.toString().getBytes(StandardCharsets.UTF_8))));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,164 @@
+package com.restapi.api.oauth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.jwt.JwtHelper;
+import org.springframework.security.oauth2.common.ExpiringOAuth2RefreshToken;
+import org.springframework.security.oauth2.common.OAuth2AccessToken;
+import org.springframework.security.oauth2.common.OAuth2RefreshToken;
+import org.springframework.security.oauth2.common.util.JsonParser;
+import org.springframework.security.oauth2.common.util.JsonParserFactory;
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+import org.springframework.security.oauth2.provider.token.AccessTokenConverter;
+import org.springframework.security.oauth2.provider.token.store.JwtAccessTokenConverter;
+import org.springframework.security.oauth2.provider.token.store.JwtTokenStore;
+
+import javax.annotation.PostConstruct;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+// 서명된 토큰을 저장하지 않고 검증만 한다. 검증 결과는 잠깐 캐시하고,
+// 폐기된 토큰은 jti 만 원래 만료 시각까지 거부 목록에 남겨둔다.
+// 거부 목록은 revoked_token 테이블로 인스턴스끼리 나누고, 각 인스턴스는 주기적으로 새로 폐기된 jti 를 읽어온다.
+// 다른 인스턴스에는 폴링 주기(my-app.revoked-token-poll-millis)만큼 늦게 반영된다.
+public class RevocableJwtTokenStore extends JwtTokenStore {
+
+    private static final int MAX_DECODED_TOKENS = 10_000;
+    private static final long DECODED_TOKEN_TTL_SECONDS = 60;
+    // 인스턴스 사이의 시계 차이와 늦게 커밋된 폐기를 놓치지 않도록 이만큼 겹쳐서 읽는다.
+    private static final long POLL_OVERLAP_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    private final JsonParser jsonParser = JsonParserFactory.create();
+
+    private final Cache<String, OAuth2AccessToken> accessTokens = Caffeine.newBuilder()
+            .maximumSize(MAX_DECODED_TOKENS)
+            .expireAfterWrite(DECODED_TOKEN_TTL_SECONDS, TimeUnit.SECONDS)
+            .build();
+
+    private final Cache<String, OAuth2Authentication> authentications = Caffeine.newBuilder()
+            .maximumSize(MAX_DECODED_TOKENS)
+            .expireAfterWrite(DECODED_TOKEN_TTL_SECONDS, TimeUnit.SECONDS)
+            .build();
+
+    private final Cache<String, Long> revokedTokenIds = Caffeine.newBuilder()
+            .expireAfter(new UntilTokenExpires())
+            .build();
+
+    private final RevokedTokenRepository revokedTokenRepository;
+
+    // 처음에는 아직 만료되지 않은 폐기 기록을 모두 읽는다.
+    private long polledAt = 0;
+
+    public RevocableJwtTokenStore(JwtAccessTokenConverter jwtTokenEnhancer, RevokedTokenRepository revokedTokenRepository) {
+        super(jwtTokenEnhancer);
+        this.revokedTokenRepository = revokedTokenRepository;
+    }
+
+    @PostConstruct
+    @Scheduled(fixedDelayString = "${my-app.revoked-token-poll-millis:5000}")
+    public synchronized void pollRevokedTokens() {
+        long now = System.currentTimeMillis();
+        this.revokedTokenRepository.findByRevokedAtGreaterThanEqualAndExpiresAtGreaterThan(this.polledAt - POLL_OVERLAP_MILLIS, now)
+                .forEach(revoked -> this.revokedTokenIds.put(revoked.getJti(), revoked.getExpiresAt()));
+        this.revokedTokenRepository.deleteExpired(now);
+        this.polledAt = now;
+    }
+
+    public long revokedTokenCount() {
+        return this.revokedTokenIds.estimatedSize();
+    }
+
+    @Override
+    public OAuth2AccessToken readAccessToken(String tokenValue) {
+        OAuth2AccessToken token = this.accessTokens.get(tokenValue, super::readAccessToken);
+        return isRevoked(tokenId(token)) ? null : token;
+    }
+
+    @Override
+    public OAuth2Authentication readAuthentication(String token) {
+        if (readAccessToken(token) == null) {
+            return null;
+        }
+
+        // OAuth2AuthenticationManager 가 요청마다 details 를 채우므로 캐시된 인스턴스를 그대로 넘기지 않는다.
+        OAuth2Authentication cached = this.authentications.get(token, super::readAuthentication);
+        return new OAuth2Authentication(cached.getOAuth2Request(), cached.getUserAuthentication());
+    }
+
+    @Override
+    public void removeAccessToken(OAuth2AccessToken token) {
+        revoke(tokenId(token), token.getExpiration());
+        this.accessTokens.invalidate(token.getValue());
+        this.authentications.invalidate(token.getValue());
+        super.removeAccessToken(token);
+    }
+
+    @Override
+    public OAuth2RefreshToken readRefreshToken(String tokenValue) {
+        if (isRevoked(refreshTokenId(tokenValue))) {
+            return null;
+        }
+        return super.readRefreshToken(tokenValue);
+    }
+
+    @Override
+    public void removeRefreshToken(OAuth2RefreshToken token) {
+        Date expiration = token instanceof ExpiringOAuth2RefreshToken
+                ? ((ExpiringOAuth2RefreshToken) token).getExpiration()
+                : null;
+        revoke(refreshTokenId(token.getValue()), expiration);
+        super.removeRefreshToken(token);
+    }
+
+    private void revoke(String tokenId, Date expiration) {
+        if (tokenId != null) {
+            long expiresAt = expiration == null ? Long.MAX_VALUE : expiration.getTime();
+            this.revokedTokenRepository.save(RevokedToken.builder()
+                    .jti(tokenId)
+                    .expiresAt(expiresAt)
+                    .revokedAt(System.currentTimeMillis())
+                    .build());
+            this.revokedTokenIds.put(tokenId, expiresAt);
+        }
+    }
+
+    private boolean isRevoked(String tokenId) {
+        return tokenId != null && this.revokedTokenIds.getIfPresent(tokenId) != null;
+    }
+
+    private static String tokenId(OAuth2AccessToken token) {
+        Object jti = token.getAdditionalInformation().get(AccessTokenConverter.JTI);
+        return jti == null ? null : jti.toString();
+    }
+
+    // 서명 검증은 super.readRefreshToken 이 하므로 여기서는 jti 만 꺼낸다.
+    private String refreshTokenId(String tokenValue) {
+        try {
+            Object jti = this.jsonParser.parseMap(JwtHelper.decode(tokenValue).getClaims()).get(AccessTokenConverter.JTI);
+            return jti == null ? null : jti.toString();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static class UntilTokenExpires implements Expiry<String, Long> {
+
+        @Override
+        public long expireAfterCreate(String tokenId, Long expiresAt, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, expiresAt - System.currentTimeMillis()));
+        }
+
+        @Override
+        public long expireAfterUpdate(String tokenId, Long expiresAt, long currentTime, long currentDuration) {
+            return expireAfterCreate(tokenId, expiresAt, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String tokenId, Long expiresAt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+}
@@ -0,0 +1,26 @@
+package com.restapi.api.oauth;
+
+import lombok.*;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+
+// 폐기된 JWT 의 jti. 모든 인스턴스가 이 테이블을 읽어서 자기 거부 목록에 반영한다.
+@Builder @AllArgsConstructor @NoArgsConstructor
+@Getter @Setter @EqualsAndHashCode(of = "jti")
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_revoked_token_revoked_at", columnList = "revokedAt"),
+        @Index(name = "idx_revoked_token_expires_at", columnList = "expiresAt")
+})
+public class RevokedToken {
+
+    @Id
+    private String jti;
+    // epoch 밀리초. 만료가 없는 토큰은 Long.MAX_VALUE
+    private long expiresAt;
+    private long revokedAt;
+
+}
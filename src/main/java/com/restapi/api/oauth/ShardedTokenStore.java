@@ -0,0 +1,332 @@
+package com.restapi.api.oauth;
+
+import org.springframework.security.oauth2.common.ExpiringOAuth2RefreshToken;
+import org.springframework.security.oauth2.common.OAuth2AccessToken;
+import org.springframework.security.oauth2.common.OAuth2RefreshToken;
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+import org.springframework.security.oauth2.provider.token.AuthenticationKeyGenerator;
+import org.springframework.security.oauth2.provider.token.DefaultAuthenticationKeyGenerator;
+import org.springframework.security.oauth2.provider.token.TokenStore;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+// 토큰 값의 해시로 샤드를 나누고, 샤드마다 락과 만료 시간 순서의 큐를 둔다.
+// 쓰기 때마다 만료된 토큰을 지우고, 샤드가 상한을 넘으면 가장 먼저 만료될 토큰부터 내보낸다.
+public class ShardedTokenStore implements TokenStore {
+
+    private final Shard[] shards;
+    private final int maxTokensPerShard;
+    private final AuthenticationKeyGenerator authenticationKeyGenerator = new DefaultAuthenticationKeyGenerator();
+
+    // 다른 샤드에 있는 토큰을 찾기 위한 색인. 가리키는 토큰이 지워질 때 함께 정리한다.
+    private final ConcurrentHashMap<String, String> accessTokenByAuthentication = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, String> accessTokenByRefreshToken = new ConcurrentHashMap<>();
+
+    private final AtomicInteger accessTokenCount = new AtomicInteger();
+    private final AtomicInteger refreshTokenCount = new AtomicInteger();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    public ShardedTokenStore(int shardCount, int maxTokens) {
+        Assert.isTrue(shardCount > 0, "shardCount must be positive");
+        Assert.isTrue(maxTokens > 0, "maxTokens must be positive");
+
+        this.shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            this.shards[i] = new Shard();
+        }
+        this.maxTokensPerShard = Math.max(1, (maxTokens + shardCount - 1) / shardCount);
+    }
+
+    public int accessTokenCount() {
+        return this.accessTokenCount.get();
+    }
+
+    public int refreshTokenCount() {
+        return this.refreshTokenCount.get();
+    }
+
+    public long evictionCount() {
+        return this.evictionCount.get();
+    }
+
+    @Override
+    public OAuth2Authentication readAuthentication(OAuth2AccessToken token) {
+        return readAuthentication(token.getValue());
+    }
+
+    @Override
+    public OAuth2Authentication readAuthentication(String token) {
+        TokenEntry entry = shardFor(token).get(token, false);
+        return entry == null ? null : entry.authentication;
+    }
+
+    @Override
+    public void storeAccessToken(OAuth2AccessToken token, OAuth2Authentication authentication) {
+        OAuth2RefreshToken refreshToken = token.getRefreshToken();
+        TokenEntry entry = new TokenEntry(token.getValue(), false, token, null, authentication,
+                this.authenticationKeyGenerator.extractKey(authentication),
+                refreshToken == null ? null : refreshToken.getValue(),
+                expiresAt(token.getExpiration()));
+        shardFor(entry.value).put(entry);
+    }
+
+    @Override
+    public OAuth2AccessToken readAccessToken(String tokenValue) {
+        TokenEntry entry = shardFor(tokenValue).get(tokenValue, false);
+        return entry == null ? null : entry.accessToken;
+    }
+
+    @Override
+    public void removeAccessToken(OAuth2AccessToken token) {
+        removeAccessToken(token.getValue());
+    }
+
+    private void removeAccessToken(String tokenValue) {
+        shardFor(tokenValue).remove(tokenValue, false);
+    }
+
+    @Override
+    public void storeRefreshToken(OAuth2RefreshToken refreshToken, OAuth2Authentication authentication) {
+        Date expiration = refreshToken instanceof ExpiringOAuth2RefreshToken
+                ? ((ExpiringOAuth2RefreshToken) refreshToken).getExpiration()
+                : null;
+        TokenEntry entry = new TokenEntry(refreshToken.getValue(), true, null, refreshToken, authentication,
+                null, null, expiresAt(expiration));
+        shardFor(entry.value).put(entry);
+    }
+
+    @Override
+    public OAuth2RefreshToken readRefreshToken(String tokenValue) {
+        TokenEntry entry = shardFor(tokenValue).get(tokenValue, true);
+        return entry == null ? null : entry.refreshToken;
+    }
+
+    @Override
+    public OAuth2Authentication readAuthenticationForRefreshToken(OAuth2RefreshToken token) {
+        TokenEntry entry = shardFor(token.getValue()).get(token.getValue(), true);
+        return entry == null ? null : entry.authentication;
+    }
+
+    @Override
+    public void removeRefreshToken(OAuth2RefreshToken token) {
+        shardFor(token.getValue()).remove(token.getValue(), true);
+    }
+
+    @Override
+    public void removeAccessTokenUsingRefreshToken(OAuth2RefreshToken refreshToken) {
+        String accessToken = this.accessTokenByRefreshToken.remove(refreshToken.getValue());
+        if (accessToken != null) {
+            removeAccessToken(accessToken);
+        }
+    }
+
+    @Override
+    public OAuth2AccessToken getAccessToken(OAuth2Authentication authentication) {
+        String accessToken = this.accessTokenByAuthentication.get(this.authenticationKeyGenerator.extractKey(authentication));
+        return accessToken == null ? null : readAccessToken(accessToken);
+    }
+
+    // 관리용 조회라서 색인 없이 모든 샤드를 훑는다.
+    @Override
+    public Collection<OAuth2AccessToken> findTokensByClientIdAndUserName(String clientId, String userName) {
+        return findAccessTokens(entry -> clientId.equals(entry.authentication.getOAuth2Request().getClientId())
+                && userName.equals(entry.authentication.getUserAuthentication() == null
+                        ? "" : entry.authentication.getUserAuthentication().getName()));
+    }
+
+    @Override
+    public Collection<OAuth2AccessToken> findTokensByClientId(String clientId) {
+        return findAccessTokens(entry -> clientId.equals(entry.authentication.getOAuth2Request().getClientId()));
+    }
+
+    private Collection<OAuth2AccessToken> findAccessTokens(Predicate<TokenEntry> predicate) {
+        List<OAuth2AccessToken> tokens = new ArrayList<>();
+        for (Shard shard : this.shards) {
+            shard.collectAccessTokens(predicate, tokens);
+        }
+        return tokens;
+    }
+
+    private Shard shardFor(String tokenValue) {
+        return this.shards[Math.floorMod(tokenValue.hashCode(), this.shards.length)];
+    }
+
+    private static long expiresAt(Date expiration) {
+        return expiration == null ? Long.MAX_VALUE : expiration.getTime();
+    }
+
+    private static class TokenEntry {
+        final String value;
+        final boolean refresh;
+        final OAuth2AccessToken accessToken;
+        final OAuth2RefreshToken refreshToken;
+        final OAuth2Authentication authentication;
+        final String authenticationKey;
+        final String refreshTokenValue;
+        final long expiresAt;
+
+        TokenEntry(String value, boolean refresh, OAuth2AccessToken accessToken, OAuth2RefreshToken refreshToken,
+                   OAuth2Authentication authentication, String authenticationKey, String refreshTokenValue, long expiresAt) {
+            this.value = value;
+            this.refresh = refresh;
+            this.accessToken = accessToken;
+            this.refreshToken = refreshToken;
+            this.authentication = authentication;
+            this.authenticationKey = authenticationKey;
+            this.refreshTokenValue = refreshTokenValue;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private class Shard {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<String, TokenEntry> accessTokens = new HashMap<>();
+        private final Map<String, TokenEntry> refreshTokens = new HashMap<>();
+        // 지워진 토큰은 큐에서 바로 빼지 않고, 꺼낼 때 맵에 남아있는지 확인한다.
+        private final PriorityQueue<TokenEntry> expiryQueue = new PriorityQueue<>(Comparator.comparingLong(e -> e.expiresAt));
+
+        TokenEntry get(String value, boolean refresh) {
+            lock.lock();
+            try {
+                return tokens(refresh).get(value);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void put(TokenEntry entry) {
+            lock.lock();
+            try {
+                purgeExpired(System.currentTimeMillis());
+
+                TokenEntry previous = tokens(entry.refresh).put(entry.value, entry);
+                if (previous != null) {
+                    // 같은 refresh token 을 다시 저장할 때는 access token 색인을 유지한다.
+                    if (!previous.refresh) {
+                        unindex(previous);
+                    }
+                } else if (entry.refresh) {
+                    refreshTokenCount.incrementAndGet();
+                } else {
+                    accessTokenCount.incrementAndGet();
+                }
+                index(entry);
+                expiryQueue.add(entry);
+
+                evictOverflow();
+                compact();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void remove(String value, boolean refresh) {
+            lock.lock();
+            try {
+                TokenEntry entry = tokens(refresh).remove(value);
+                if (entry != null) {
+                    removed(entry);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void collectAccessTokens(Predicate<TokenEntry> predicate, List<OAuth2AccessToken> result) {
+            lock.lock();
+            try {
+                for (TokenEntry entry : accessTokens.values()) {
+                    if (predicate.test(entry)) {
+                        result.add(entry.accessToken);
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private Map<String, TokenEntry> tokens(boolean refresh) {
+            return refresh ? refreshTokens : accessTokens;
+        }
+
+        private int size() {
+            return accessTokens.size() + refreshTokens.size();
+        }
+
+        private boolean isLive(TokenEntry entry) {
+            return tokens(entry.refresh).get(entry.value) == entry;
+        }
+
+        private void purgeExpired(long now) {
+            while (!expiryQueue.isEmpty() && expiryQueue.peek().expiresAt <= now) {
+                TokenEntry entry = expiryQueue.poll();
+                if (isLive(entry)) {
+                    tokens(entry.refresh).remove(entry.value);
+                    removed(entry);
+                }
+            }
+        }
+
+        private void evictOverflow() {
+            while (size() > maxTokensPerShard && !expiryQueue.isEmpty()) {
+                TokenEntry entry = expiryQueue.poll();
+                if (isLive(entry)) {
+                    tokens(entry.refresh).remove(entry.value);
+                    removed(entry);
+                    evictionCount.incrementAndGet();
+                }
+            }
+        }
+
+        private void compact() {
+            if (expiryQueue.size() > 2 * size() + 16) {
+                expiryQueue.removeIf(entry -> !isLive(entry));
+            }
+        }
+
+        private void index(TokenEntry entry) {
+            if (entry.refresh) {
+                return;
+            }
+            accessTokenByAuthentication.put(entry.authenticationKey, entry.value);
+            if (entry.refreshTokenValue != null) {
+                accessTokenByRefreshToken.put(entry.refreshTokenValue, entry.value);
+            }
+        }
+
+        private void unindex(TokenEntry entry) {
+            if (entry.refresh) {
+                accessTokenByRefreshToken.remove(entry.value);
+                return;
+            }
+            accessTokenByAuthentication.remove(entry.authenticationKey, entry.value);
+            if (entry.refreshTokenValue != null) {
+                accessTokenByRefreshToken.remove(entry.refreshTokenValue, entry.value);
+            }
+        }
+
+        private void removed(TokenEntry entry) {
+            unindex(entry);
+            if (entry.refresh) {
+                refreshTokenCount.decrementAndGet();
+            } else {
+                accessTokenCount.decrementAndGet();
+            }
+        }
+    }
+
+}
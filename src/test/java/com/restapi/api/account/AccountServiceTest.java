@@ -3,24 +3,32 @@ package com.restapi.api.account;
 import com.restapi.api.common.AppProperties;
 import com.restapi.api.common.BaseControllerTest;
 import org.hamcrest.Matchers;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.CredentialsContainer;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit4.SpringRunner;
 
+import javax.persistence.EntityManagerFactory;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 public class AccountServiceTest extends BaseControllerTest {
 
@@ -33,6 +41,15 @@ public class AccountServiceTest extends BaseControllerTest {
     @Autowired
     PasswordEncoder passwordEncoder;
 
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    @Autowired
+    AppProperties appProperties;
+
     @Test
     public void findByUsername() {
         //Given
@@ -56,6 +73,79 @@ public class AccountServiceTest extends BaseControllerTest {
 //        assertThat(userDetails.getPassword()).isEqualTo(password);
     }
 
+    @Test
+    public void loadUserByUsernameFromCache() {
+        //Given
+        String username = "cached@email.com";
+        Account account = Account.builder()
+                                    .email(username)
+                                    .password("cached")
+                                    .roles(Set.of(AccountRole.USER))
+                                    .build();
+        this.accountService.saveAccount(account);
+        Statistics statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // When
+        UserDetails first = accountService.loadUserByUsername(username);
+        ((CredentialsContainer) first).eraseCredentials();
+        statistics.clear();
+        UserDetails second = accountService.loadUserByUsername(username);
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(0);
+        assertThat(second).isNotSameAs(first);
+        assertThat(passwordEncoder.matches("cached", second.getPassword())).isTrue();
+        assertThat(second.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+    }
+
+    @Test
+    public void saveAccountEvictsCachedAccount() {
+        //Given
+        String username = "evicted@email.com";
+        Account account = Account.builder()
+                                    .email(username)
+                                    .password("before")
+                                    .roles(Set.of(AccountRole.USER))
+                                    .build();
+        this.accountService.saveAccount(account);
+        accountService.loadUserByUsername(username);
+
+        // When
+        account.setPassword("after");
+        this.accountService.saveAccount(account);
+
+        // Then
+        UserDetails userDetails = accountService.loadUserByUsername(username);
+        assertThat(passwordEncoder.matches("after", userDetails.getPassword())).isTrue();
+    }
+
+    @Test
+    public void rehashWeakPasswordOnLogin() throws Exception {
+        //Given
+        String username = "weak@email.com";
+        String password = "weak";
+        Account account = this.accountRepository.save(Account.builder()
+                                    .email(username)
+                                    .password("{bcrypt}" + new BCryptPasswordEncoder(4).encode(password))
+                                    .roles(Set.of(AccountRole.USER))
+                                    .build());
+        assertThat(passwordEncoder.upgradeEncoding(account.getPassword())).isTrue();
+
+        // When
+        mockMvc.perform(post("/oauth/token")
+                                .with(httpBasic(appProperties.getClientId(), appProperties.getClientSecret()))
+                                .param("username", username)
+                                .param("password", password)
+                                .param("grant_type", "password"))
+                .andExpect(status().isOk());
+
+        // Then
+        String rehashed = this.accountRepository.findById(account.getId()).orElseThrow().getPassword();
+        assertThat(rehashed).isNotEqualTo(account.getPassword());
+        assertThat(passwordEncoder.upgradeEncoding(rehashed)).isFalse();
+        assertThat(passwordEncoder.matches(password, rehashed)).isTrue();
+    }
+
     @Test
     public void findByUsernameFail() {
         // Expected
@@ -0,0 +1,91 @@
+package com.restapi.api.account;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Test;
+import org.springframework.security.crypto.password.NoOpPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class PooledPasswordEncoderTest {
+
+    @Test
+    public void encodeAndMatches() throws Exception {
+        // Given
+        PooledPasswordEncoder passwordEncoder = new PooledPasswordEncoder(NoOpPasswordEncoder.getInstance(), 2, 10, 1000);
+
+        // When
+        String encoded = passwordEncoder.encode("pass");
+
+        // Then
+        assertThat(passwordEncoder.matches("pass", encoded)).isTrue();
+        assertThat(passwordEncoder.matches("wrong", encoded)).isFalse();
+        passwordEncoder.destroy();
+    }
+
+    @Test
+    public void rejectWhenSaturated() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PooledPasswordEncoder passwordEncoder = new PooledPasswordEncoder(blockingEncoder(started, release), 1, 1, 5000);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        passwordEncoder.bindTo(registry);
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> passwordEncoder.encode("running"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> passwordEncoder.encode("queued"));
+        while (registry.get("password.hashing.queued").gauge().value() == 0) {
+            Thread.sleep(10);
+        }
+
+        // When & Then
+        assertThatThrownBy(() -> passwordEncoder.encode("rejected"))
+                .isInstanceOf(PasswordHashingUnavailableException.class);
+        assertThat(registry.get("password.hashing.rejected").functionCounter().count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("running");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("queued");
+        passwordEncoder.destroy();
+    }
+
+    @Test
+    public void timeoutIsUnavailable() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        PooledPasswordEncoder passwordEncoder = new PooledPasswordEncoder(blockingEncoder(new CountDownLatch(1), release), 1, 1, 50);
+
+        // When & Then
+        assertThatThrownBy(() -> passwordEncoder.encode("slow"))
+                .isInstanceOf(PasswordHashingUnavailableException.class)
+                .hasMessageContaining("timed out");
+        release.countDown();
+        passwordEncoder.destroy();
+    }
+
+    private PasswordEncoder blockingEncoder(CountDownLatch started, CountDownLatch release) {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return rawPassword.toString().equals(encodedPassword);
+            }
+        };
+    }
+
+}
@@ -0,0 +1,60 @@
+package com.restapi.api.benchmark;
+
+import com.restapi.api.account.Account;
+import com.restapi.api.account.AccountAdapter;
+import com.restapi.api.account.AccountRepository;
+import com.restapi.api.account.AccountRole;
+import com.restapi.api.account.AccountService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AccountBenchmark {
+
+    private static final String EMAIL = "benchmark@email.com";
+
+    private AccountService accountService;
+
+    private Cache accountsCache;
+
+    private Account account;
+
+    @Setup
+    public void setUp(ApplicationState application) {
+        this.accountService = application.getBean(AccountService.class);
+        this.accountsCache = application.getBean(CacheManager.class).getCache(AccountRepository.ACCOUNTS_CACHE);
+        this.account = this.accountService.saveAccount(Account.builder()
+                .email(EMAIL)
+                .password("benchmark")
+                .roles(Set.of(AccountRole.ADMIN, AccountRole.USER))
+                .build());
+    }
+
+    @Benchmark
+    public AccountAdapter accountAdapter() {
+        return new AccountAdapter(this.account);
+    }
+
+    @Benchmark
+    public UserDetails loadUserByUsername() {
+        return this.accountService.loadUserByUsername(EMAIL);
+    }
+
+    // 캐시를 비우고 H2 에서 계정과 권한을 읽어오는 경로를 잰다.
+    @Benchmark
+    public UserDetails loadUserByUsernameFromDatabase() {
+        this.accountsCache.clear();
+        return this.accountService.loadUserByUsername(EMAIL);
+    }
+
+}
@@ -0,0 +1,44 @@
+package com.restapi.api.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restapi.api.common.StandaloneApplication;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+// 애플리케이션을 한 번 띄워서 벤치마크끼리 공유한다.
+@State(Scope.Benchmark)
+public class ApplicationState {
+
+    private ConfigurableApplicationContext context;
+
+    @Setup
+    public void start() {
+        this.context = StandaloneApplication.start();
+    }
+
+    @TearDown
+    public void stop() {
+        this.context.close();
+    }
+
+    public <T> T getBean(Class<T> type) {
+        return this.context.getBean(type);
+    }
+
+    // 응답을 쓸 때와 같은 설정으로 직렬화하도록 MVC 에 등록된 HAL 컨버터의 ObjectMapper 를 꺼내 쓴다.
+    public ObjectMapper halObjectMapper() {
+        return getBean(RequestMappingHandlerAdapter.class).getMessageConverters().stream()
+                .filter(converter -> converter instanceof AbstractJackson2HttpMessageConverter)
+                .filter(converter -> converter.getSupportedMediaTypes().contains(MediaTypes.HAL_JSON))
+                .map(converter -> ((AbstractJackson2HttpMessageConverter) converter).getObjectMapper())
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("No HAL converter registered"));
+    }
+
+}
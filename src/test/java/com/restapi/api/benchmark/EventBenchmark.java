@@ -0,0 +1,76 @@
+package com.restapi.api.benchmark;
+
+import com.restapi.api.events.Event;
+import com.restapi.api.events.EventDto;
+import com.restapi.api.events.EventVaildator;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventBenchmark {
+
+    private EventVaildator eventVaildator;
+
+    private Event event;
+
+    private EventDto validEventDto;
+
+    private EventDto wrongEventDto;
+
+    @Setup
+    public void setUp() {
+        this.eventVaildator = new EventVaildator();
+        this.event = Event.builder()
+                .basePrice(100)
+                .maxPrice(200)
+                .location("강남역 D2 스타텁 팩토리")
+                .build();
+        this.validEventDto = eventDto(100, 200, LocalDateTime.of(2018, 11, 26, 14, 21));
+        this.wrongEventDto = eventDto(20000, 200, LocalDateTime.of(2018, 11, 22, 14, 21));
+    }
+
+    @Benchmark
+    public Event update() {
+        this.event.update();
+        return this.event;
+    }
+
+    @Benchmark
+    public Errors validate() {
+        Errors errors = new BeanPropertyBindingResult(this.validEventDto, "eventDto");
+        this.eventVaildator.validate(this.validEventDto, errors);
+        return errors;
+    }
+
+    @Benchmark
+    public Errors validateWrong() {
+        Errors errors = new BeanPropertyBindingResult(this.wrongEventDto, "eventDto");
+        this.eventVaildator.validate(this.wrongEventDto, errors);
+        return errors;
+    }
+
+    private EventDto eventDto(int basePrice, int maxPrice, LocalDateTime endEventDateTime) {
+        return EventDto.builder()
+                .name("Spring")
+                .description("REST API Development with Spring")
+                .beginEnrollmentDateTime(LocalDateTime.of(2018, 11, 23, 14, 21))
+                .closeEnrollmentDateTime(LocalDateTime.of(2018, 11, 24, 14, 21))
+                .beginEventDateTime(LocalDateTime.of(2018, 11, 25, 14, 21))
+                .endEventDateTime(endEventDateTime)
+                .basePrice(basePrice)
+                .maxPrice(maxPrice)
+                .limitOfEnrollment(100)
+                .location("강남역 D2 스타텁 팩토리")
+                .build();
+    }
+
+}
@@ -0,0 +1,71 @@
+package com.restapi.api.benchmark;
+
+import com.restapi.api.events.DirectEventMapper;
+import com.restapi.api.events.Event;
+import com.restapi.api.events.EventDto;
+import com.restapi.api.events.EventMapper;
+import com.restapi.api.events.ModelMapperEventMapper;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventMapperBenchmark {
+
+    private EventMapper directEventMapper;
+
+    private EventMapper modelMapperEventMapper;
+
+    private EventDto eventDto;
+
+    private Event existingEvent;
+
+    @Setup
+    public void setUp() {
+        this.directEventMapper = new DirectEventMapper();
+        this.modelMapperEventMapper = new ModelMapperEventMapper(new ModelMapper());
+        this.eventDto = EventDto.builder()
+                .name("Spring")
+                .description("REST API Development with Spring")
+                .beginEnrollmentDateTime(LocalDateTime.of(2018,11, 23, 14, 21))
+                .closeEnrollmentDateTime(LocalDateTime.of(2018,11, 24, 14, 21))
+                .beginEventDateTime(LocalDateTime.of(2018, 11, 25, 14, 21))
+                .endEventDateTime(LocalDateTime.of(2018, 11, 26, 14, 21))
+                .basePrice(100)
+                .maxPrice(200)
+                .limitOfEnrollment(100)
+                .location("강남역 D2 스타텁 팩토리")
+                .build();
+        this.existingEvent = this.directEventMapper.toEvent(this.eventDto);
+    }
+
+    @Benchmark
+    public Event directToEvent() {
+        return this.directEventMapper.toEvent(this.eventDto);
+    }
+
+    @Benchmark
+    public Event modelMapperToEvent() {
+        return this.modelMapperEventMapper.toEvent(this.eventDto);
+    }
+
+    @Benchmark
+    public Event directUpdate() {
+        this.directEventMapper.update(this.eventDto, this.existingEvent);
+        return this.existingEvent;
+    }
+
+    @Benchmark
+    public Event modelMapperUpdate() {
+        this.modelMapperEventMapper.update(this.eventDto, this.existingEvent);
+        return this.existingEvent;
+    }
+
+}
@@ -0,0 +1,86 @@
+package com.restapi.api.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restapi.api.common.ErrorsResource;
+import com.restapi.api.events.Event;
+import com.restapi.api.events.EventDto;
+import com.restapi.api.events.EventResource;
+import com.restapi.api.events.EventStatus;
+import com.restapi.api.events.EventVaildator;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.hateoas.Link;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HalSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+
+    private Event event;
+
+    private Errors errors;
+
+    @Setup
+    public void setUp(ApplicationState application) {
+        this.objectMapper = application.halObjectMapper();
+        this.event = Event.builder()
+                .id(1)
+                .version(0L)
+                .name("Spring")
+                .description("REST API Development with Spring")
+                .beginEnrollmentDateTime(LocalDateTime.of(2018, 11, 23, 14, 21))
+                .closeEnrollmentDateTime(LocalDateTime.of(2018, 11, 24, 14, 21))
+                .beginEventDateTime(LocalDateTime.of(2018, 11, 25, 14, 21))
+                .endEventDateTime(LocalDateTime.of(2018, 11, 26, 14, 21))
+                .basePrice(100)
+                .maxPrice(200)
+                .limitOfEnrollment(100)
+                .location("강남역 D2 스타텁 팩토리")
+                .offline(true)
+                .eventStatus(EventStatus.DRAFT)
+                .build();
+
+        EventDto wrongEventDto = EventDto.builder()
+                .beginEnrollmentDateTime(LocalDateTime.of(2018, 11, 23, 14, 21))
+                .closeEnrollmentDateTime(LocalDateTime.of(2018, 11, 24, 14, 21))
+                .beginEventDateTime(LocalDateTime.of(2018, 11, 25, 14, 21))
+                .endEventDateTime(LocalDateTime.of(2018, 11, 22, 14, 21))
+                .basePrice(20000)
+                .maxPrice(200)
+                .build();
+        this.errors = new BeanPropertyBindingResult(wrongEventDto, "eventDto");
+        new EventVaildator().validate(wrongEventDto, this.errors);
+    }
+
+    @Benchmark
+    public EventResource eventResource() {
+        return eventResource(this.event);
+    }
+
+    @Benchmark
+    public byte[] eventResourceToHal() throws JsonProcessingException {
+        return this.objectMapper.writeValueAsBytes(eventResource(this.event));
+    }
+
+    @Benchmark
+    public byte[] errorsToJson() throws JsonProcessingException {
+        return this.objectMapper.writeValueAsBytes(new ErrorsResource(this.errors));
+    }
+
+    private static EventResource eventResource(Event event) {
+        EventResource eventResource = new EventResource(event);
+        eventResource.add(new Link("/docs/index.html#resources-events-get").withRel("profile"));
+        return eventResource;
+    }
+
+}
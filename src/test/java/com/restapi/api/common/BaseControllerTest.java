@@ -12,6 +12,11 @@ import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 
 @RunWith(SpringRunner.class)
 @SpringBootTest
@@ -31,4 +36,14 @@ public class BaseControllerTest {
     @Autowired
     protected ModelMapper modelMapper;
 
+    // 이벤트 API 는 비동기로 응답하므로 결과가 나오면 다시 디스패치해서 최종 응답을 받는다.
+    protected ResultActions performAsync(RequestBuilder requestBuilder) throws Exception {
+        ResultActions resultActions = mockMvc.perform(requestBuilder);
+        MvcResult result = resultActions.andReturn();
+        if (!result.getRequest().isAsyncStarted()) {
+            return resultActions;
+        }
+        return mockMvc.perform(asyncDispatch(result));
+    }
+
 }
@@ -0,0 +1,152 @@
+package com.restapi.api.common;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import java.sql.PreparedStatement;
+import java.sql.Types;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SqlLogListenerTest {
+
+    private Logger logger;
+    private ListAppender<ILoggingEvent> appender;
+
+    @Before
+    public void setUp() {
+        this.logger = (Logger) LoggerFactory.getLogger(SqlLogListener.class);
+        this.appender = new ListAppender<>();
+        this.appender.start();
+        this.logger.addAppender(this.appender);
+    }
+
+    @After
+    public void tearDown() {
+        this.logger.detachAppender(this.appender);
+        MDC.clear();
+    }
+
+    @Test
+    @TestDescription("느린 쿼리는 바인드 값과 컨트롤러 메서드를 함께 남기는 테스트")
+    public void logSlowQueryWithParameters() throws Exception {
+        // Given
+        SqlLogListener listener = new SqlLogListener(0, 200);
+        MDC.put(HandlerMdcInterceptor.HANDLER_KEY, "EventController#getEvent");
+
+        // When
+        listener.afterQuery(execution(250), List.of(query("select * from event where id=?", 42)));
+
+        // Then
+        assertThat(this.appender.list).hasSize(1);
+        ILoggingEvent event = this.appender.list.get(0);
+        assertThat(event.getLevel()).isEqualTo(Level.WARN);
+        assertThat(event.getFormattedMessage())
+                .contains("250ms")
+                .contains("EventController#getEvent")
+                .contains("select * from event where id=? [42]");
+    }
+
+    @Test
+    @TestDescription("빠른 쿼리는 표본 비율이 0 이면 남기지 않는 테스트")
+    public void skipFastQueryWhenNotSampled() throws Exception {
+        // Given
+        SqlLogListener listener = new SqlLogListener(0, 200);
+
+        // When
+        listener.afterQuery(execution(5), List.of(query("select * from event where id=?", 42)));
+
+        // Then
+        assertThat(this.appender.list).isEmpty();
+    }
+
+    @Test
+    @TestDescription("표본으로 뽑힌 빠른 쿼리는 바인드 값 없이 남기는 테스트")
+    public void logSampledQueryWithoutParameters() throws Exception {
+        // Given
+        SqlLogListener listener = new SqlLogListener(1, 200);
+
+        // When
+        listener.afterQuery(execution(5), List.of(query("select * from event where id=?", 42)));
+
+        // Then
+        assertThat(this.appender.list).hasSize(1);
+        ILoggingEvent event = this.appender.list.get(0);
+        assertThat(event.getLevel()).isEqualTo(Level.INFO);
+        assertThat(event.getFormattedMessage()).contains("select * from event where id=?").doesNotContain("[42]");
+    }
+
+    @Test
+    @TestDescription("setNull 로 바인드한 값은 SQL 타입 대신 null 로 남기는 테스트")
+    public void logSetNullAsNull() throws Exception {
+        // Given
+        SqlLogListener listener = new SqlLogListener(0, 200);
+        QueryInfo queryInfo = new QueryInfo("update event set location=? where id=?");
+        queryInfo.getParametersList().add(List.of(
+                new ParameterSetOperation(PreparedStatement.class.getMethod("setNull", int.class, int.class), new Object[]{1, Types.VARCHAR}),
+                new ParameterSetOperation(PreparedStatement.class.getMethod("setInt", int.class, int.class), new Object[]{2, 42})));
+
+        // When
+        listener.afterQuery(execution(250), List.of(queryInfo));
+
+        // Then
+        assertThat(this.appender.list.get(0).getFormattedMessage()).contains("[null, 42]");
+    }
+
+    @Test
+    @TestDescription("password 컬럼에 바인드한 값은 가려서 남기는 테스트")
+    public void maskPasswordParameters() throws Exception {
+        // Given
+        SqlLogListener listener = new SqlLogListener(0, 200);
+        QueryInfo insert = new QueryInfo("insert into account (email, password, id) values (?, ?, ?)");
+        insert.getParametersList().add(List.of(
+                setString(1, "user@email.com"), setString(2, "{bcrypt}$2a$10$secret"), setString(3, "7")));
+        QueryInfo update = new QueryInfo("update account set email=?, password=? where id=?");
+        update.getParametersList().add(List.of(
+                setString(1, "user@email.com"), setString(2, "{bcrypt}$2a$10$secret"), setString(3, "7")));
+
+        // When
+        listener.afterQuery(execution(250), List.of(insert, update));
+
+        // Then
+        assertThat(this.appender.list.get(0).getFormattedMessage())
+                .contains("[user@email.com, ****, 7]")
+                .doesNotContain("secret");
+    }
+
+    @Test
+    public void maskedIndexes() {
+        assertThat(SqlLogListener.maskedIndexes("select * from account where id=? and account0_.password = ?")).containsExactly(2);
+        assertThat(SqlLogListener.maskedIndexes("insert into account (email, password) values (?, ?)")).containsExactly(2);
+        assertThat(SqlLogListener.maskedIndexes("select * from event where id=?")).isEmpty();
+    }
+
+    private ParameterSetOperation setString(int index, String value) throws NoSuchMethodException {
+        return new ParameterSetOperation(PreparedStatement.class.getMethod("setString", int.class, String.class), new Object[]{index, value});
+    }
+
+    private ExecutionInfo execution(long elapsedMillis) {
+        ExecutionInfo executionInfo = new ExecutionInfo();
+        executionInfo.setElapsedTime(elapsedMillis);
+        return executionInfo;
+    }
+
+    private QueryInfo query(String sql, int parameter) throws NoSuchMethodException {
+        QueryInfo queryInfo = new QueryInfo(sql);
+        queryInfo.getParametersList().add(List.of(new ParameterSetOperation(
+                PreparedStatement.class.getMethod("setInt", int.class, int.class), new Object[]{1, parameter})));
+        return queryInfo;
+    }
+
+}
@@ -0,0 +1,23 @@
+package com.restapi.api.common;
+
+import com.restapi.api.RestApiApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+// 벤치마크와 부하 테스트에서 H2 를 쓰는 test 프로필로 애플리케이션을 임의 포트에 띄운다.
+// 측정에 끼어들지 않도록 SQL, 보안 로그와 Hibernate 통계는 끈다.
+public class StandaloneApplication {
+
+    public static ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(RestApiApplication.class)
+                .profiles("test")
+                .properties("server.port=0",
+                        "logging.level.root=WARN",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                        "logging.level.org.springframework.security=WARN",
+                        "spring.jpa.properties.hibernate.generate_statistics=false")
+                .run();
+    }
+
+}
@@ -0,0 +1,61 @@
+package com.restapi.api.configs;
+
+import org.junit.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AsyncConfigTest {
+
+    @Test
+    public void requestContextIsCopiedToWorkerThread() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/events");
+        ServletRequestAttributes requestAttributes = new ServletRequestAttributes(request);
+        RequestContextHolder.setRequestAttributes(requestAttributes);
+        MDC.put("requestId", "42");
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            // When - 요청 스레드의 디스패치가 먼저 끝난 뒤에 작업 스레드가 요청 속성을 읽는다.
+            CountDownLatch dispatchCompleted = new CountDownLatch(1);
+            CompletableFuture<Object> seenPattern = new CompletableFuture<>();
+            CompletableFuture<String> seenRequestId = new CompletableFuture<>();
+            request.setAttribute("pattern", "/api/events");
+            executor.execute(new AsyncConfig.RequestContextTaskDecorator().decorate(() -> {
+                try {
+                    dispatchCompleted.await();
+                    seenPattern.complete(RequestContextHolder.currentRequestAttributes()
+                            .getAttribute("pattern", RequestAttributes.SCOPE_REQUEST));
+                    seenRequestId.complete(MDC.get("requestId"));
+                } catch (Exception e) {
+                    seenPattern.completeExceptionally(e);
+                }
+            }));
+            requestAttributes.requestCompleted();
+            dispatchCompleted.countDown();
+            CompletableFuture<Boolean> clearedAfterwards = CompletableFuture.supplyAsync(
+                    () -> RequestContextHolder.getRequestAttributes() == null && MDC.get("requestId") == null, executor);
+
+            // Then
+            assertThat(seenPattern.get(5, TimeUnit.SECONDS)).isEqualTo("/api/events");
+            assertThat(seenRequestId.get(5, TimeUnit.SECONDS)).isEqualTo("42");
+            assertThat(clearedAfterwards.get(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            executor.shutdown();
+            MDC.clear();
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+}
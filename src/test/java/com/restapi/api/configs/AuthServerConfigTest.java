@@ -7,8 +7,12 @@ import com.restapi.api.common.BaseControllerTest;
 import com.restapi.api.common.TestDescription;
 import org.junit.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.json.JacksonJsonParser;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 
 
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -38,4 +42,49 @@ public class AuthServerConfigTest extends BaseControllerTest {
 
     }
 
+    @Test
+    @TestDescription("client_credentials 로 서비스용 토큰을 발급 받는 테스트")
+    public void getClientCredentialsToken() throws Exception {
+        // Given
+        AppProperties.Client client = appProperties.getClients().get(0);
+
+        // When & Then
+        String responseBody = mockMvc.perform(post("/oauth/token")
+                                .with(httpBasic(client.getClientId(), client.getClientSecret()))
+                                .param("grant_type", "client_credentials"))
+                                .andDo(print())
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("access_token").exists())
+                                .andExpect(jsonPath("refresh_token").doesNotExist())
+                                .andReturn().getResponse().getContentAsString();
+        String accessToken = new JacksonJsonParser().parseMap(responseBody).get("access_token").toString();
+
+        performAsync(get("/api/events")
+                                .header(HttpHeaders.AUTHORIZATION, "bearer " + accessToken))
+                                .andDo(print())
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("_links.create-event").doesNotExist());
+    }
+
+    @Test
+    @TestDescription("사용자가 없는 client_credentials 토큰으로는 이벤트를 만들 수 없는 테스트")
+    public void clientCredentialsTokenCannotCreateEvent() throws Exception {
+        // Given
+        AppProperties.Client client = appProperties.getClients().get(0);
+        String responseBody = mockMvc.perform(post("/oauth/token")
+                                .with(httpBasic(client.getClientId(), client.getClientSecret()))
+                                .param("grant_type", "client_credentials"))
+                                .andExpect(status().isOk())
+                                .andReturn().getResponse().getContentAsString();
+        String accessToken = new JacksonJsonParser().parseMap(responseBody).get("access_token").toString();
+
+        // When & Then
+        mockMvc.perform(post("/api/events")
+                                .header(HttpHeaders.AUTHORIZATION, "bearer " + accessToken)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{}"))
+                                .andDo(print())
+                                .andExpect(status().isForbidden());
+    }
+
 }
@@ -0,0 +1,167 @@
+package com.restapi.api.configs;
+
+import com.restapi.api.account.Account;
+import com.restapi.api.account.AccountRepository;
+import com.restapi.api.account.AccountRole;
+import com.restapi.api.account.AccountService;
+import com.restapi.api.common.AppProperties;
+import com.restapi.api.common.BaseControllerTest;
+import com.restapi.api.common.TestDescription;
+import com.restapi.api.events.EnrollmentRepository;
+import com.restapi.api.events.EventDto;
+import com.restapi.api.events.EventRepository;
+import com.restapi.api.oauth.RevocableJwtTokenStore;
+import com.restapi.api.oauth.RevokedTokenRepository;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.json.JacksonJsonParser;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.oauth2.provider.token.TokenStore;
+import org.springframework.security.oauth2.provider.token.store.JwtAccessTokenConverter;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@TestPropertySource(properties = {
+        "my-app.token-format=jwt",
+        "my-app.jwt-signing-key=jwt-token-test-signing-key-0123456789abcdef"
+})
+public class JwtTokenTest extends BaseControllerTest {
+
+    @Autowired
+    AccountService accountService;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    AppProperties appProperties;
+
+    @Autowired
+    TokenStore tokenStore;
+
+    @Autowired
+    JwtAccessTokenConverter accessTokenConverter;
+
+    @Autowired
+    RevokedTokenRepository revokedTokenRepository;
+
+    @Before
+    public void setUp() {
+        this.enrollmentRepository.deleteAll();
+        this.eventRepository.deleteAll();
+        this.accountRepository.deleteAll();
+        this.accountService.saveAccount(Account.builder()
+                .email(appProperties.getUserUsername())
+                .password(appProperties.getUserPassword())
+                .roles(Set.of(AccountRole.ADMIN, AccountRole.USER))
+                .build());
+    }
+
+    @Test
+    @TestDescription("서명된 토큰의 계정 id 로 이벤트를 만들고 수정하는 테스트")
+    public void createAndUpdateEventWithJwt() throws Exception {
+        // Given
+        String accessToken = getAccessToken();
+        assertThat(accessToken.split("\\.")).hasSize(3);
+        EventDto eventDto = eventDto();
+
+        // When & Then
+        String response = performAsync(post("/api/events/")
+                .header(HttpHeaders.AUTHORIZATION, "bearer " + accessToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaTypes.HAL_JSON)
+                .content(objectMapper.writeValueAsString(eventDto)))
+                .andDo(print())
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("_links.update-event").exists())
+                .andReturn().getResponse().getContentAsString();
+        Object id = new JacksonJsonParser().parseMap(response).get("id");
+
+        performAsync(put("/api/events/{id}", id)
+                .header(HttpHeaders.AUTHORIZATION, "bearer " + accessToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(eventDto)))
+                .andDo(print())
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @TestDescription("폐기한 토큰은 서명이 유효해도 거부하는 테스트")
+    public void revokedJwtIsRejected() throws Exception {
+        // Given
+        String accessToken = getAccessToken();
+        this.tokenStore.removeAccessToken(this.tokenStore.readAccessToken(accessToken));
+
+        // When & Then
+        performAsync(post("/api/events/")
+                .header(HttpHeaders.AUTHORIZATION, "bearer " + accessToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaTypes.HAL_JSON)
+                .content(objectMapper.writeValueAsString(eventDto())))
+                .andDo(print())
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @TestDescription("다른 인스턴스에서 폐기한 토큰도 폴링한 뒤에는 거부하는 테스트")
+    public void revocationIsSharedAcrossInstances() throws Exception {
+        // Given - 같은 DB 를 보는 다른 인스턴스의 토큰 저장소
+        String accessToken = getAccessToken();
+        RevocableJwtTokenStore otherInstance = new RevocableJwtTokenStore(this.accessTokenConverter, this.revokedTokenRepository);
+        otherInstance.pollRevokedTokens();
+        assertThat(otherInstance.readAccessToken(accessToken)).isNotNull();
+
+        // When
+        this.tokenStore.removeAccessToken(this.tokenStore.readAccessToken(accessToken));
+        otherInstance.pollRevokedTokens();
+
+        // Then
+        assertThat(otherInstance.readAccessToken(accessToken)).isNull();
+    }
+
+    private String getAccessToken() throws Exception {
+        String responseBody = mockMvc.perform(post("/oauth/token")
+                .with(httpBasic(appProperties.getClientId(), appProperties.getClientSecret()))
+                .param("username", appProperties.getUserUsername())
+                .param("password", appProperties.getUserPassword())
+                .param("grant_type", "password"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return new JacksonJsonParser().parseMap(responseBody).get("access_token").toString();
+    }
+
+    private EventDto eventDto() {
+        return EventDto.builder()
+                .name("Spring")
+                .description("REST API Development with Spring")
+                .beginEnrollmentDateTime(LocalDateTime.of(2018, 11, 23, 14, 21))
+                .closeEnrollmentDateTime(LocalDateTime.of(2018, 11, 24, 14, 21))
+                .beginEventDateTime(LocalDateTime.of(2018, 11, 25, 14, 21))
+                .endEventDateTime(LocalDateTime.of(2018, 11, 26, 14, 21))
+                .basePrice(100)
+                .maxPrice(200)
+                .limitOfEnrollment(100)
+                .location("강남역 D2 스타텁 팩토리")
+                .build();
+    }
+
+}
@@ -0,0 +1,137 @@
+package com.restapi.api.configs;
+
+import com.restapi.api.account.Account;
+import com.restapi.api.account.AccountRepository;
+import com.restapi.api.account.AccountRole;
+import com.restapi.api.account.AccountService;
+import com.restapi.api.common.AppProperties;
+import com.restapi.api.common.BaseControllerTest;
+import com.restapi.api.common.TestDescription;
+import com.restapi.api.events.EnrollmentRepository;
+import com.restapi.api.events.EventDto;
+import com.restapi.api.events.EventRepository;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.json.JacksonJsonParser;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+public class MetricsConfigTest extends BaseControllerTest {
+
+    @Autowired
+    AccountService accountService;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    AppProperties appProperties;
+
+    @Before
+    public void setUp() {
+        this.enrollmentRepository.deleteAll();
+        this.eventRepository.deleteAll();
+        this.accountRepository.deleteAll();
+        this.accountService.saveAccount(Account.builder()
+                .email(appProperties.getUserUsername())
+                .password(appProperties.getUserPassword())
+                .roles(Set.of(AccountRole.ADMIN, AccountRole.USER))
+                .build());
+    }
+
+    @Test
+    @TestDescription("이벤트 생성 요청의 단계별 시간을 scrape 엔드포인트로 내보내는 테스트")
+    public void scrapeStageTimers() throws Exception {
+        // Given
+        performAsync(post("/api/events")
+                .header(HttpHeaders.AUTHORIZATION, "bearer " + getAccessToken())
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaTypes.HAL_JSON)
+                .content(objectMapper.writeValueAsString(eventDto())))
+                .andExpect(status().isCreated());
+
+        // When & Then
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("event_request_stage_seconds_bucket{stage=\"bean-validation\",uri=\"/api/events\"")))
+                .andExpect(content().string(containsString("event_request_stage_seconds_count{stage=\"validation\",uri=\"/api/events\"")))
+                .andExpect(content().string(containsString("event_request_stage_seconds_count{stage=\"mapping\",uri=\"/api/events\"")))
+                .andExpect(content().string(containsString("event_request_stage_seconds_count{stage=\"repository\",uri=\"/api/events\"")))
+                .andExpect(content().string(containsString("event_request_stage_seconds_count{stage=\"links\",uri=\"/api/events\"")))
+                .andExpect(content().string(containsString("event_request_stage_seconds_count{stage=\"serialization\",uri=\"/api/events\"")))
+                .andExpect(content().string(containsString("http_server_requests_seconds_bucket")))
+                .andExpect(content().string(containsString("hikaricp_connections_acquire_seconds_bucket")))
+                .andExpect(content().string(containsString("cache_gets_total{cache=\"events\"")));
+    }
+
+    @Test
+    @TestDescription("ADMIN 권한이 없는 토큰으로는 캐시를 비울 수 없는 테스트")
+    public void clearCachesRequiresAdmin() throws Exception {
+        // Given
+        this.accountService.saveAccount(Account.builder()
+                .email("member@email.com")
+                .password("member")
+                .roles(Set.of(AccountRole.USER))
+                .build());
+
+        // When & Then
+        mockMvc.perform(delete("/actuator/caches"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(delete("/actuator/caches")
+                .header(HttpHeaders.AUTHORIZATION, "bearer " + getAccessToken("member@email.com", "member")))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(delete("/actuator/caches")
+                .header(HttpHeaders.AUTHORIZATION, "bearer " + getAccessToken()))
+                .andExpect(status().is2xxSuccessful());
+    }
+
+    private String getAccessToken() throws Exception {
+        return getAccessToken(appProperties.getUserUsername(), appProperties.getUserPassword());
+    }
+
+    private String getAccessToken(String username, String password) throws Exception {
+        String responseBody = mockMvc.perform(post("/oauth/token")
+                .with(httpBasic(appProperties.getClientId(), appProperties.getClientSecret()))
+                .param("username", username)
+                .param("password", password)
+                .param("grant_type", "password"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return new JacksonJsonParser().parseMap(responseBody).get("access_token").toString();
+    }
+
+    private EventDto eventDto() {
+        return EventDto.builder()
+                .name("Spring")
+                .description("REST API Development with Spring")
+                .beginEnrollmentDateTime(LocalDateTime.of(2018, 11, 23, 14, 21))
+                .closeEnrollmentDateTime(LocalDateTime.of(2018, 11, 24, 14, 21))
+                .beginEventDateTime(LocalDateTime.of(2018, 11, 25, 14, 21))
+                .endEventDateTime(LocalDateTime.of(2018, 11, 26, 14, 21))
+                .basePrice(100)
+                .maxPrice(200)
+                .limitOfEnrollment(100)
+                .location("강남역 D2 스타텁 팩토리")
+                .build();
+    }
+
+}
@@ -0,0 +1,29 @@
+package com.restapi.api.configs;
+
+import com.restapi.api.common.TestDescription;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class SecurityConfigTest {
+
+    @Test
+    @TestDescription("JWT 서명 키가 없거나 예시 값이거나 짧으면 시작하지 않는 테스트")
+    public void rejectMissingOrWeakSigningKey() {
+        assertThatThrownBy(() -> SecurityConfig.requireSigningKey(null)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> SecurityConfig.requireSigningKey(" ")).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> SecurityConfig.requireSigningKey("change-me-to-a-long-random-secret-of-at-least-32-bytes"))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> SecurityConfig.requireSigningKey("too-short")).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @TestDescription("외부에서 받은 충분히 긴 서명 키는 그대로 쓰는 테스트")
+    public void acceptSuppliedSigningKey() {
+        String signingKey = "0123456789abcdef0123456789abcdef";
+
+        assertThat(SecurityConfig.requireSigningKey(signingKey)).isEqualTo(signingKey);
+    }
+
+}
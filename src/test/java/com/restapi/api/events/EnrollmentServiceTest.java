@@ -0,0 +1,214 @@
+package com.restapi.api.events;
+
+import com.restapi.api.account.Account;
+import com.restapi.api.account.AccountRepository;
+import com.restapi.api.account.AccountRole;
+import com.restapi.api.common.AppProperties;
+import com.restapi.api.common.BaseControllerTest;
+import com.restapi.api.common.TestDescription;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EnrollmentServiceTest extends BaseControllerTest {
+
+    @Autowired
+    EnrollmentService enrollmentService;
+
+    @Autowired
+    EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    @Autowired
+    EventService eventService;
+
+    @Autowired
+    AppProperties appProperties;
+
+    @Before
+    public void setUp() {
+        this.enrollmentRepository.deleteAll();
+        this.eventRepository.deleteAll();
+        this.accountRepository.deleteAll();
+    }
+
+    @Test
+    @TestDescription("수천 건의 신청이 동시에 몰려도 정원을 넘겨 받지 않는 테스트")
+    public void neverOversellUnderContention() throws Exception {
+        // Given
+        int limit = 100;
+        Event event = this.eventRepository.save(event(limit));
+        List<Account> accounts = createAccounts(1000);
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        Map<SeatReservation.Result, AtomicInteger> results = new ConcurrentHashMap<>();
+
+        // When - 계정마다 두 번씩, 모두 2000 건을 한꺼번에 신청한다.
+        for (int i = 0; i < 2 * accounts.size(); i++) {
+            Account account = accounts.get(i % accounts.size());
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                SeatReservation reservation = this.enrollmentService.enroll(event.getId(), account);
+                results.computeIfAbsent(reservation.getResult(), r -> new AtomicInteger()).incrementAndGet();
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(60, TimeUnit.SECONDS)).isTrue();
+
+        // Then
+        assertThat(results.get(SeatReservation.Result.RESERVED)).hasValue(limit);
+        assertThat(this.enrollmentRepository.countByEventId(event.getId())).isEqualTo(limit);
+        assertThat(Set.copyOf(this.enrollmentRepository.findAccountIdsByEventId(event.getId()))).hasSize(limit);
+        assertThat(this.eventRepository.findSeatsById(event.getId()).get().getReservedSeats()).isEqualTo(limit);
+        assertThat(this.enrollmentService.enroll(event.getId(), accounts.get(0)).getResult())
+                .isIn(SeatReservation.Result.SOLD_OUT, SeatReservation.Result.ALREADY_ENROLLED);
+    }
+
+    @Test
+    @TestDescription("좌석을 묶음으로 임대해서 나눠주고, 반납하면 쓰지 않은 좌석을 돌려주는 테스트")
+    public void leaseSeatsInBlocks() {
+        // Given
+        Event event = this.eventRepository.save(event(100));
+        List<Account> accounts = createAccounts(3);
+
+        // When
+        accounts.forEach(account -> assertThat(this.enrollmentService.enroll(event.getId(), account).isReserved()).isTrue());
+
+        // Then
+        assertThat(this.eventRepository.findSeatsById(event.getId()).get().getReservedSeats())
+                .isEqualTo(this.appProperties.getEnrollmentLeaseSize());
+        this.enrollmentService.release(event.getId());
+        assertThat(this.eventRepository.findSeatsById(event.getId()).get().getReservedSeats()).isEqualTo(3);
+    }
+
+    @Test
+    @TestDescription("DB 에서 지워진 신청만큼 좌석을 다시 열고 그 계정도 다시 받는 테스트")
+    public void reconcileReleasesDeletedEnrollments() {
+        // Given
+        Event event = this.eventRepository.save(event(1));
+        List<Account> accounts = createAccounts(2);
+        assertThat(this.enrollmentService.enroll(event.getId(), accounts.get(0)).isReserved()).isTrue();
+        assertThat(this.enrollmentService.enroll(event.getId(), accounts.get(1)).getResult())
+                .isEqualTo(SeatReservation.Result.SOLD_OUT);
+
+        // When - 이 인스턴스의 임대가 만료되고 여유 시간이 지난 뒤에 맞춘다.
+        this.enrollmentRepository.deleteAll();
+        this.enrollmentService.reconcile(LocalDateTime.now()
+                .plus(Duration.ofMillis(this.appProperties.getEnrollmentLeaseMillis()))
+                .plusMinutes(2));
+
+        // Then - 지워진 계정도 다시 신청할 수 있다.
+        assertThat(this.enrollmentService.enroll(event.getId(), accounts.get(0)).isReserved()).isTrue();
+        assertThat(this.enrollmentService.enroll(event.getId(), accounts.get(1)).getResult())
+                .isEqualTo(SeatReservation.Result.SOLD_OUT);
+    }
+
+    @Test
+    @TestDescription("정원을 줄이면 이후 신청부터 줄어든 정원을 적용하는 테스트")
+    public void updateLimitAppliesToNewReservations() {
+        // Given
+        Event event = this.eventRepository.save(event(10));
+        List<Account> accounts = createAccounts(2);
+        assertThat(this.enrollmentService.enroll(event.getId(), accounts.get(0)).isReserved()).isTrue();
+
+        // When - 저장하면 이 인스턴스가 받아둔 좌석을 돌려준다.
+        Event saved = this.eventRepository.findById(event.getId()).get();
+        saved.setLimitOfEnrollment(1);
+        this.eventService.saveEvent(saved);
+
+        // Then - 엔티티를 저장해도 잡힌 좌석 수는 덮어쓰지 않는다.
+        assertThat(this.enrollmentService.enroll(event.getId(), accounts.get(1)).getResult())
+                .isEqualTo(SeatReservation.Result.SOLD_OUT);
+        assertThat(this.eventRepository.findSeatsById(event.getId()).get().getReservedSeats()).isEqualTo(1);
+    }
+
+    @Test
+    @TestDescription("신청 시작 전이거나 공개되지 않은 이벤트는 신청을 받지 않는 테스트")
+    public void rejectEventsNotOpenForEnrollment() {
+        // Given
+        Event draft = event(10);
+        draft.setEventStatus(EventStatus.DRAFT);
+        Event published = event(10);
+        published.setEventStatus(EventStatus.PUBLISHED);
+        published.setBeginEnrollmentDateTime(LocalDateTime.now().plusHours(1));
+        this.eventRepository.saveAll(List.of(draft, published));
+        Account account = createAccounts(1).get(0);
+
+        // When & Then
+        assertThat(this.enrollmentService.enroll(draft.getId(), account).getResult())
+                .isEqualTo(SeatReservation.Result.NOT_OPEN);
+        assertThat(this.enrollmentService.enroll(published.getId(), account).getResult())
+                .isEqualTo(SeatReservation.Result.NOT_OPEN);
+        assertThat(this.enrollmentRepository.count()).isZero();
+    }
+
+    @Test
+    @TestDescription("신청 마감 시각이 지난 이벤트는 신청을 받지 않는 테스트")
+    public void rejectEventsPastCloseEnrollment() {
+        // Given
+        Event event = event(10);
+        event.setCloseEnrollmentDateTime(LocalDateTime.now().minusMinutes(1));
+        this.eventRepository.save(event);
+        Account account = createAccounts(1).get(0);
+
+        // When & Then
+        assertThat(this.enrollmentService.enroll(event.getId(), account).getResult())
+                .isEqualTo(SeatReservation.Result.CLOSED);
+        assertThat(this.enrollmentRepository.count()).isZero();
+    }
+
+    private List<Account> createAccounts(int count) {
+        List<Account> accounts = IntStream.range(0, count)
+                .mapToObj(i -> Account.builder()
+                        .email("enroll" + i + "@email.com")
+                        .password("{noop}pass")
+                        .roles(Set.of(AccountRole.USER))
+                        .build())
+                .collect(Collectors.toCollection(ArrayList::new));
+        return this.accountRepository.saveAll(accounts);
+    }
+
+    // 신청 기간 중인 이벤트
+    private Event event(int limitOfEnrollment) {
+        LocalDateTime now = LocalDateTime.now();
+        return Event.builder()
+                .name("popular event")
+                .description("test event")
+                .beginEnrollmentDateTime(now.minusDays(1))
+                .closeEnrollmentDateTime(now.plusDays(1))
+                .beginEventDateTime(now.plusDays(2))
+                .endEventDateTime(now.plusDays(3))
+                .limitOfEnrollment(limitOfEnrollment)
+                .eventStatus(EventStatus.BEGAN_ENROLLMENT)
+                .build();
+    }
+
+}
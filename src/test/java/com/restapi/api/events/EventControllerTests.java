@@ -1,26 +1,40 @@
 package com.restapi.api.events;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.jayway.jsonpath.JsonPath;
 import com.restapi.api.account.Account;
 import com.restapi.api.account.AccountRepository;
 import com.restapi.api.account.AccountRole;
 import com.restapi.api.account.AccountService;
 import com.restapi.api.common.AppProperties;
 import com.restapi.api.common.BaseControllerTest;
+import com.restapi.api.common.ETags;
 import com.restapi.api.common.TestDescription;
 import org.hamcrest.Matchers;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.Before;
 import org.junit.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.json.JacksonJsonParser;
+import org.springframework.cache.CacheManager;
 import org.springframework.hateoas.MediaTypes;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.web.util.UriComponentsBuilder;
 
+import javax.persistence.EntityManagerFactory;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.restdocs.headers.HeaderDocumentation.*;
 import static org.springframework.restdocs.hypermedia.HypermediaDocumentation.linkWithRel;
 import static org.springframework.restdocs.hypermedia.HypermediaDocumentation.links;
@@ -36,6 +50,12 @@ public class EventControllerTests extends BaseControllerTest {
     @Autowired
     EventRepository eventRepository;
 
+    @Autowired
+    EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    EventService eventService;
+
     @Autowired
     AccountService accountService;
 
@@ -45,10 +65,18 @@ public class EventControllerTests extends BaseControllerTest {
     @Autowired
     AppProperties appProperties;
 
+    @Autowired
+    CacheManager cacheManager;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
     @Before
     public void setUp() {
+        this.enrollmentRepository.deleteAll();
         this.eventRepository.deleteAll();
         this.accountRepository.deleteAll();
+        this.cacheManager.getCacheNames().forEach(name -> this.cacheManager.getCache(name).clear());
     }
 
     @Test
@@ -67,7 +95,7 @@ public class EventControllerTests extends BaseControllerTest {
                     .location("강남역 D2 스타텁 팩토리")
                     .build();
 
-        mockMvc.perform(post("/api/events/")
+        performAsync(post("/api/events/")
                         .header(HttpHeaders.AUTHORIZATION, getBearerToken())
                         .contentType(MediaType.APPLICATION_JSON)
                         .accept(MediaTypes.HAL_JSON)
@@ -156,7 +184,7 @@ public class EventControllerTests extends BaseControllerTest {
                 .eventStatus(EventStatus.DRAFT)
                 .build();
 
-        mockMvc.perform(post("/api/events/")
+        performAsync(post("/api/events/")
                 .header(HttpHeaders.AUTHORIZATION, getBearerToken())
                 .contentType(MediaType.APPLICATION_JSON)
                 .accept(MediaTypes.HAL_JSON)
@@ -170,7 +198,7 @@ public class EventControllerTests extends BaseControllerTest {
     public void createEvent_Bad_Request_Empty_Input() throws Exception {
         EventDto eventDto = EventDto.builder().build();
 
-        mockMvc.perform(post("/api/events")
+        performAsync(post("/api/events")
                     .header(HttpHeaders.AUTHORIZATION, getBearerToken())
                     .contentType(MediaType.APPLICATION_JSON)
                     .content(objectMapper.writeValueAsString(eventDto)))
@@ -194,7 +222,7 @@ public class EventControllerTests extends BaseControllerTest {
                 .location("강남역 D2 스타텁 팩토리")
                 .build();
 
-        mockMvc.perform(post("/api/events")
+        performAsync(post("/api/events")
                 .header(HttpHeaders.AUTHORIZATION, getBearerToken())
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(eventDto)))
@@ -207,6 +235,50 @@ public class EventControllerTests extends BaseControllerTest {
 
     }
 
+    @Test
+    @TestDescription("여러 이벤트를 한 번에 생성하는 테스트")
+    public void createEvents() throws Exception {
+        List<EventDto> eventDtos = IntStream.range(0, 3)
+                .mapToObj(i -> modelMapper.map(buildEvent(i), EventDto.class))
+                .collect(Collectors.toList());
+
+        performAsync(post("/api/events/batch")
+                .header(HttpHeaders.AUTHORIZATION, getBearerToken())
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaTypes.HAL_JSON)
+                .content(objectMapper.writeValueAsString(eventDtos)))
+                .andDo(print())
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("_embedded.eventList.length()").value(3))
+                .andExpect(jsonPath("_embedded.eventList[0].id").exists())
+                .andExpect(jsonPath("_embedded.eventList[0].offline").value(true))
+                .andExpect(jsonPath("_embedded.eventList[0]._links.self").exists())
+                .andExpect(jsonPath("_links.query-events").exists())
+                .andExpect(jsonPath("_links.profile").exists())
+                .andDo(document("create-events-batch"));
+    }
+
+    @Test
+    @TestDescription("잘못된 항목이 포함된 경우 항목별 에러를 응답하고 아무것도 저장하지 않는 테스트")
+    public void createEvents_Bad_Request_Wrong_Item() throws Exception {
+        EventDto validEvent = modelMapper.map(buildEvent(0), EventDto.class);
+        EventDto wrongEvent = modelMapper.map(buildEvent(1), EventDto.class);
+        wrongEvent.setBasePrice(20000);
+        wrongEvent.setMaxPrice(1000);
+
+        performAsync(post("/api/events/batch")
+                .header(HttpHeaders.AUTHORIZATION, getBearerToken())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(validEvent, wrongEvent))))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("content[0].objectName").value("events[1]"))
+                .andExpect(jsonPath("content[0].code").exists())
+                .andExpect(jsonPath("_links.index").exists());
+
+        assertThat(this.eventRepository.count()).isZero();
+    }
+
     @Test
     @TestDescription("30개의 이벤트를 10개씩 두번째 페이지 조회하기")
     public void queryEvents() throws Exception {
@@ -214,7 +286,7 @@ public class EventControllerTests extends BaseControllerTest {
         IntStream.range(0, 30).forEach(this::generateEvent);
 
         //when & Then
-        mockMvc.perform(get("/api/events")
+        performAsync(get("/api/events")
                 .param("page", "1")
                 .param("size", "10")
                 .param("sort", "name,DESC"))
@@ -235,7 +307,7 @@ public class EventControllerTests extends BaseControllerTest {
         IntStream.range(0, 30).forEach(this::generateEvent);
 
         //when & Then
-        mockMvc.perform(get("/api/events")
+        performAsync(get("/api/events")
                 .header(HttpHeaders.AUTHORIZATION, getBearerToken())
                 .param("page", "1")
                 .param("size", "10")
@@ -251,6 +323,298 @@ public class EventControllerTests extends BaseControllerTest {
 
     }
 
+    @Test
+    @TestDescription("상태, 무료 여부, 가격 조건으로 이벤트 조회하기")
+    public void queryEventsWithFilter() throws Exception {
+        //given
+        IntStream.range(0, 30).forEach(i -> {
+            Event event = buildEvent(i);
+            if(i % 2 == 0) {
+                event.setEventStatus(EventStatus.PUBLISHED);
+            }
+            if(i % 3 == 0) {
+                event.setBasePrice(0);
+                event.setMaxPrice(0);
+                event.setFree(true);
+            }
+            this.eventRepository.save(event);
+        });
+
+        //when & Then
+        performAsync(get("/api/events")
+                .param("eventStatus", "PUBLISHED")
+                .param("free", "true")
+                .param("enrollmentFrom", "2018-11-24T00:00:00")
+                .param("enrollmentTo", "2018-11-24T23:59:59"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("page.totalElements").value(5))
+                .andExpect(jsonPath("_embedded.eventList[*].eventStatus", Matchers.everyItem(Matchers.is("PUBLISHED"))))
+                .andExpect(jsonPath("_embedded.eventList[*].free", Matchers.everyItem(Matchers.is(true))))
+                .andDo(document("query-events-filter"));
+
+        performAsync(get("/api/events")
+                .param("priceFrom", "50")
+                .param("priceTo", "150"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("page.totalElements").value(20));
+
+        performAsync(get("/api/events")
+                .param("beginEventFrom", "2018-11-26T00:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("page.totalElements").value(0));
+    }
+
+    @Test
+    @TestDescription("30개의 이벤트를 커서 방식으로 10개씩 끝까지 조회하기")
+    public void queryEventsByCursor() throws Exception {
+        //given
+        IntStream.range(0, 30).forEach(this::generateEvent);
+
+        //when & Then
+        String response = performAsync(get("/api/events")
+                .param("mode", "cursor")
+                .param("size", "10"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("page").doesNotExist())
+                .andExpect(jsonPath("_embedded.eventList.length()").value(10))
+                .andExpect(jsonPath("_embedded.eventList[0]._links.self").exists())
+                .andExpect(jsonPath("_links.self").exists())
+                .andExpect(jsonPath("_links.next").exists())
+                .andExpect(jsonPath("_links.profile").exists())
+                .andDo(document("query-events-cursor"))
+                .andReturn().getResponse().getContentAsString();
+
+        String after = nextCursor(response);
+        response = performAsync(get("/api/events")
+                .param("mode", "cursor")
+                .param("size", "10")
+                .param("after", after))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventList.length()").value(10))
+                .andExpect(jsonPath("_links.next").exists())
+                .andReturn().getResponse().getContentAsString();
+
+        performAsync(get("/api/events")
+                .param("mode", "cursor")
+                .param("size", "10")
+                .param("after", nextCursor(response)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventList.length()").value(10))
+                .andExpect(jsonPath("_links.next").doesNotExist());
+    }
+
+    @Test
+    @TestDescription("커서 방식으로 조회할 때도 검색 조건을 적용하기")
+    public void queryEventsByCursorWithFilter() throws Exception {
+        //given
+        IntStream.range(0, 30).forEach(i -> {
+            Event event = buildEvent(i);
+            if(i % 2 == 0) {
+                event.setEventStatus(EventStatus.PUBLISHED);
+            }
+            this.eventRepository.save(event);
+        });
+
+        //when & Then
+        String response = performAsync(get("/api/events")
+                .param("mode", "cursor")
+                .param("size", "10")
+                .param("eventStatus", "PUBLISHED"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventList.length()").value(10))
+                .andExpect(jsonPath("_embedded.eventList[*].eventStatus", Matchers.everyItem(Matchers.is("PUBLISHED"))))
+                .andExpect(jsonPath("_links.next.href").value(Matchers.containsString("eventStatus=PUBLISHED")))
+                .andExpect(jsonPath("_links.profile.href").value(Matchers.endsWith("#resources-events-list-cursor")))
+                .andReturn().getResponse().getContentAsString();
+
+        performAsync(get("/api/events")
+                .param("mode", "cursor")
+                .param("size", "10")
+                .param("eventStatus", "PUBLISHED")
+                .param("after", nextCursor(response)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventList.length()").value(5))
+                .andExpect(jsonPath("_embedded.eventList[*].eventStatus", Matchers.everyItem(Matchers.is("PUBLISHED"))))
+                .andExpect(jsonPath("_links.next").doesNotExist());
+    }
+
+    @Test
+    @TestDescription("30개의 이벤트를 count 쿼리 없이 10개씩 조회하기")
+    public void queryEventsBySlice() throws Exception {
+        //given
+        IntStream.range(0, 30).forEach(this::generateEvent);
+        Statistics statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        //when & Then
+        statistics.clear();
+        performAsync(get("/api/events")
+                .param("mode", "slice")
+                .param("page", "1")
+                .param("size", "10")
+                .param("sort", "name,DESC"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("page").doesNotExist())
+                .andExpect(jsonPath("_embedded.eventList.length()").value(10))
+                .andExpect(jsonPath("_embedded.eventList[0]._links.self").exists())
+                .andExpect(jsonPath("_links.self").exists())
+                .andExpect(jsonPath("_links.next.href").value(Matchers.containsString("page=2")))
+                .andExpect(jsonPath("_links.prev.href").value(Matchers.containsString("page=0")))
+                .andExpect(jsonPath("_links.profile").exists())
+                .andDo(document("query-events-slice"));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        performAsync(get("/api/events")
+                .param("mode", "slice")
+                .param("page", "2")
+                .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventList.length()").value(10))
+                .andExpect(jsonPath("_links.next").doesNotExist())
+                .andExpect(jsonPath("_links.prev").exists());
+    }
+
+    @Test
+    @TestDescription("잘못된 커서로 조회하면 400 응답받기")
+    public void queryEventsByCursor_Bad_Request() throws Exception {
+        performAsync(get("/api/events")
+                .param("mode", "cursor")
+                .param("after", "not-a-cursor"))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @TestDescription("이름과 설명으로 이벤트 검색하기")
+    public void searchEvents() throws Exception {
+        //given
+        Event java = buildEvent(0);
+        java.setName("Java 세미나");
+        java.setDescription("스프링 이야기도 합니다");
+        this.eventService.saveEvent(java);
+        Event spring = buildEvent(1);
+        spring.setName("스프링 부트 세미나");
+        this.eventService.saveEvent(spring);
+        this.eventService.saveEvent(buildEvent(2));
+
+        //when & Then
+        performAsync(get("/api/events/search")
+                .param("q", "스프링"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventList.length()").value(2))
+                .andExpect(jsonPath("_embedded.eventList[0].name").value("스프링 부트 세미나"))
+                .andExpect(jsonPath("_embedded.eventList[1].name").value("Java 세미나"))
+                .andExpect(jsonPath("_embedded.eventList[0]._links.self").exists())
+                .andExpect(jsonPath("_links.self").exists())
+                .andExpect(jsonPath("_links.profile").exists())
+                .andDo(document("search-events"));
+    }
+
+    @Test
+    @TestDescription("30개의 이벤트를 NDJSON 으로 내보내기")
+    public void exportEvents() throws Exception {
+        //given
+        IntStream.range(0, 30).forEach(this::generateEvent);
+
+        //when & Then
+        String response = performAsync(get("/api/events/export"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(EventExporter.NDJSON_VALUE))
+                .andDo(document("export-events"))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = response.split("\n");
+        assertThat(lines).hasSize(30);
+        assertThat(objectMapper.readTree(lines[0]).get("name").asText()).startsWith("event ");
+    }
+
+    @Test
+    @TestDescription("목록 조회에서 매니저는 id 만 응답하는 테스트")
+    public void queryEvents_Manager_Id_Only() throws Exception {
+        //given
+        Account account = this.createAccount();
+        this.generateEvent(1, account);
+
+        //when & Then
+        performAsync(get("/api/events"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventList[0].name").value("event 1"))
+                .andExpect(jsonPath("_embedded.eventList[0].manager.id").value(account.getId()))
+                .andExpect(jsonPath("_embedded.eventList[0].manager.email").doesNotExist())
+                .andExpect(jsonPath("_embedded.eventList[0].version").doesNotExist())
+                .andExpect(jsonPath("_embedded.eventList[0]._links.self").exists());
+    }
+
+    @Test
+    @TestDescription("이벤트를 조회할 때 매니저와 권한을 따로 읽어오지 않는 테스트")
+    public void queryEvents_Without_N_Plus_One() throws Exception {
+        //given
+        List<Account> managers = IntStream.range(0, 3)
+                .mapToObj(i -> this.accountRepository.save(Account.builder()
+                        .email("manager" + i + "@email.com")
+                        .password("pass")
+                        .roles(Set.of(AccountRole.USER))
+                        .build()))
+                .collect(Collectors.toList());
+        List<Event> events = IntStream.range(0, 20)
+                .mapToObj(i -> this.generateEvent(i, managers.get(i % managers.size())))
+                .collect(Collectors.toList());
+        Statistics statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        //when & Then
+        statistics.clear();
+        performAsync(get("/api/events").param("size", "10"))
+                .andExpect(status().isOk());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+
+        statistics.clear();
+        performAsync(get("/api/events").param("mode", "cursor").param("size", "20"))
+                .andExpect(status().isOk());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        statistics.clear();
+        performAsync(get("/api/events/{id}", events.get(0).getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("manager.id").value(managers.get(0).getId()));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @TestDescription("목록이 바뀌지 않았으면 304 응답받기")
+    public void queryEvents_Not_Modified() throws Exception {
+        //given
+        IntStream.range(0, 30).forEach(this::generateEvent);
+        String eTag = performAsync(get("/api/events")
+                .param("page", "1")
+                .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, Matchers.startsWith("W/\"")))
+                .andExpect(header().string(HttpHeaders.VARY, "Authorization, Accept, Accept-Encoding"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        //when & Then
+        performAsync(get("/api/events")
+                .param("page", "1")
+                .param("size", "10")
+                .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        // 같은 목록이라도 다른 표현의 캐시는 검증되지 않는다.
+        performAsync(get("/api/events")
+                .param("page", "1")
+                .param("size", "10")
+                .accept(MediaType.APPLICATION_CBOR)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, Matchers.not(eTag)));
+    }
+
     @Test
     @TestDescription("기존의 이벤트를 하나 조회하기")
     public void getEvent() throws Exception{
@@ -259,21 +623,98 @@ public class EventControllerTests extends BaseControllerTest {
         Event event = this.generateEvent(100, account);
 
         //When & Then
-        mockMvc.perform(get("/api/events/{id}", event.getId()))
+        performAsync(get("/api/events/{id}", event.getId()))
                         .andExpect(status().isOk())
                         .andExpect(jsonPath("name").exists())
                         .andExpect(jsonPath("id").exists())
                         .andExpect(jsonPath("_links.self").exists())
+                        .andExpect(jsonPath("_links.self.href").value("http://localhost:8080/api/events/" + event.getId()))
                         .andExpect(jsonPath("_links.profile").exists())
                         .andDo(document("get-an-event"))
                         .andDo(print());
     }
 
+    @Test
+    @TestDescription("CBOR 로 요청하면 HAL 구조 그대로 날짜는 epoch 숫자로 응답받기")
+    public void queryEventsAsCbor() throws Exception {
+        //Given
+        Event event = this.generateEvent(100);
+
+        //When
+        byte[] content = performAsync(get("/api/events")
+                .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        //Then
+        JsonNode body = new ObjectMapper(new CBORFactory()).readTree(content);
+        JsonNode item = body.at("/_embedded/eventList/0");
+        assertThat(item.get("name").asText()).isEqualTo(event.getName());
+        assertThat(item.at("/_links/self/href").asText()).isEqualTo("http://localhost:8080/api/events/" + event.getId());
+        assertThat(item.get("beginEnrollmentDateTime").isNumber()).isTrue();
+        assertThat(item.get("beginEnrollmentDateTime").asLong())
+                .isEqualTo(event.getBeginEnrollmentDateTime().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        assertThat(body.at("/_links/profile").isMissingNode()).isFalse();
+    }
+
+    @Test
+    @TestDescription("이벤트를 수정하면 캐시된 이벤트도 갱신되는 테스트")
+    public void getEvent_After_Update() throws Exception{
+        //Given
+        Account account = this.createAccount();
+        Event event = this.generateEvent(200, account);
+        performAsync(get("/api/events/{id}", event.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("name").value(event.getName()));
+
+        EventDto eventDto = modelMapper.map(event, EventDto.class);
+        String eventName = "updated event";
+        eventDto.setName(eventName);
+
+        //When
+        performAsync(put("/api/events/{id}", event.getId())
+                .header(HttpHeaders.AUTHORIZATION, getBearerToken(false))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(eventDto)))
+                .andExpect(status().isOk());
+
+        //Then
+        performAsync(get("/api/events/{id}", event.getId()))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("name").value(eventName));
+    }
+
+    @Test
+    @TestDescription("이벤트가 바뀌지 않았으면 304 응답받기")
+    public void getEvent_Not_Modified() throws Exception{
+        //Given
+        Account account = this.createAccount();
+        Event event = this.generateEvent(304, account);
+        String eTag = performAsync(get("/api/events/{id}", event.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, ETags.of(event.getVersion(), MediaTypes.HAL_JSON)))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        //When & Then
+        performAsync(get("/api/events/{id}", event.getId())
+                .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        performAsync(get("/api/events/{id}", event.getId())
+                .accept(MediaType.APPLICATION_CBOR)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, ETags.of(event.getVersion(), MediaType.APPLICATION_CBOR)));
+    }
+
     @Test
     @TestDescription("없는 이벤트 조회했을 때 404 응답받기")
     public void getEvent404() throws Exception{
         //When & Then
-        mockMvc.perform(get("/api/events/1183"))
+        performAsync(get("/api/events/1183"))
                         .andExpect(status().isNotFound())
                         .andDo(print());
     }
@@ -290,7 +731,7 @@ public class EventControllerTests extends BaseControllerTest {
         eventDto.setName(eventName);
 
         //When & Then
-        mockMvc.perform(put("/api/events/{id}", event.getId())
+        performAsync(put("/api/events/{id}", event.getId())
                                     .header(HttpHeaders.AUTHORIZATION, getBearerToken(false))
                                     .contentType(MediaType.APPLICATION_JSON)
                                     .content(objectMapper.writeValueAsString(eventDto))
@@ -310,7 +751,7 @@ public class EventControllerTests extends BaseControllerTest {
         EventDto eventDto = new EventDto();
 
         //When & Then
-        mockMvc.perform(put("/api/events/{id}", event.getId())
+        performAsync(put("/api/events/{id}", event.getId())
                 .header(HttpHeaders.AUTHORIZATION, getBearerToken())
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(eventDto)))
@@ -328,7 +769,7 @@ public class EventControllerTests extends BaseControllerTest {
         eventDto.setMaxPrice(1000);
 
         //When & Then
-        mockMvc.perform(put("/api/events/{id}", event.getId())
+        performAsync(put("/api/events/{id}", event.getId())
                 .header(HttpHeaders.AUTHORIZATION, getBearerToken())
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(eventDto)))
@@ -336,6 +777,26 @@ public class EventControllerTests extends BaseControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    @TestDescription("If-Match 버전이 현재 버전과 다르면 이벤트 수정 실패")
+    public void updateEvent412() throws Exception{
+        //Given
+        Account account = this.createAccount();
+        Event event = this.generateEvent(412, account);
+        EventDto eventDto = modelMapper.map(event, EventDto.class);
+        eventDto.setName("updated event");
+
+        //When & Then
+        performAsync(put("/api/events/{id}", event.getId())
+                .header(HttpHeaders.AUTHORIZATION, getBearerToken(false))
+                .header(HttpHeaders.IF_MATCH, ETags.of(event.getVersion() + 1, MediaTypes.HAL_JSON))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(eventDto)))
+                .andDo(print())
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(header().string(HttpHeaders.ETAG, ETags.of(event.getVersion(), MediaTypes.HAL_JSON)));
+    }
+
     @Test
     @TestDescription("존재하지 않는 이벤트 수정 실패")
     public void updateEvent404() throws Exception{
@@ -344,7 +805,7 @@ public class EventControllerTests extends BaseControllerTest {
         EventDto eventDto = modelMapper.map(event, EventDto.class);
 
         //When & Then
-        mockMvc.perform(put("/api/events/12312312")
+        performAsync(put("/api/events/12312312")
                 .header(HttpHeaders.AUTHORIZATION, getBearerToken())
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(eventDto)))
@@ -352,11 +813,106 @@ public class EventControllerTests extends BaseControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    @TestDescription("이벤트에 참가 신청하기")
+    public void enrollEvent() throws Exception {
+        // Given
+        Event event = this.generateOpenEvent(1);
+
+        // When & Then
+        performAsync(post("/api/events/{id}/enrollments", event.getId())
+                .header(HttpHeaders.AUTHORIZATION, getBearerToken())
+                .accept(MediaTypes.HAL_JSON))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("result").value("RESERVED"))
+                .andExpect(jsonPath("remainingSeats").value(99))
+                .andExpect(jsonPath("_links.event.href").value("http://localhost:8080/api/events/" + event.getId()))
+                .andExpect(jsonPath("_links.profile").exists())
+                .andDo(document("enroll-event"));
+
+        assertThat(this.enrollmentRepository.countByEventId(event.getId())).isEqualTo(1);
+    }
+
+    @Test
+    @TestDescription("같은 계정으로 두 번 신청하면 409 응답받기")
+    public void enrollEvent409_Already_Enrolled() throws Exception {
+        // Given
+        Event event = this.generateOpenEvent(1);
+        String bearerToken = getBearerToken();
+        performAsync(post("/api/events/{id}/enrollments", event.getId())
+                .header(HttpHeaders.AUTHORIZATION, bearerToken))
+                .andExpect(status().isOk());
+
+        // When & Then
+        performAsync(post("/api/events/{id}/enrollments", event.getId())
+                .header(HttpHeaders.AUTHORIZATION, bearerToken))
+                .andDo(print())
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("result").value("ALREADY_ENROLLED"));
+    }
+
+    @Test
+    @TestDescription("정원이 찬 이벤트에 신청하면 409 응답받기")
+    public void enrollEvent409_Sold_Out() throws Exception {
+        // Given
+        Event event = buildOpenEvent(1);
+        event.setLimitOfEnrollment(0);
+        this.eventRepository.save(event);
+
+        // When & Then
+        performAsync(post("/api/events/{id}/enrollments", event.getId())
+                .header(HttpHeaders.AUTHORIZATION, getBearerToken()))
+                .andDo(print())
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("result").value("SOLD_OUT"));
+    }
+
+    @Test
+    @TestDescription("신청을 받는 상태가 아닌 이벤트에 신청하면 409 응답받기")
+    public void enrollEvent409_Not_Open() throws Exception {
+        // Given
+        Event event = this.generateEvent(1);
+
+        // When & Then
+        performAsync(post("/api/events/{id}/enrollments", event.getId())
+                .header(HttpHeaders.AUTHORIZATION, getBearerToken()))
+                .andDo(print())
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("result").value("NOT_OPEN"));
+    }
+
+    @Test
+    @TestDescription("없는 이벤트에 신청하면 404 응답받기")
+    public void enrollEvent404() throws Exception {
+        performAsync(post("/api/events/12312312/enrollments")
+                .header(HttpHeaders.AUTHORIZATION, getBearerToken()))
+                .andDo(print())
+                .andExpect(status().isNotFound());
+    }
+
+    private String nextCursor(String response) {
+        String nextHref = JsonPath.read(response, "_links.next.href");
+        return UriComponentsBuilder.fromUriString(nextHref).build().getQueryParams().getFirst("after");
+    }
+
     private Event generateEvent(int index) {
         Event event = buildEvent(index);
         return this.eventRepository.save(event);
     }
 
+    private Event generateOpenEvent(int index) {
+        return this.eventRepository.save(buildOpenEvent(index));
+    }
+
+    // 신청 기간 중인 이벤트
+    private Event buildOpenEvent(int index) {
+        Event event = buildEvent(index);
+        event.setEventStatus(EventStatus.BEGAN_ENROLLMENT);
+        event.setCloseEnrollmentDateTime(LocalDateTime.now().plusDays(1));
+        return event;
+    }
+
     private Event generateEvent(int index, Account account) {
         Event event = buildEvent(index);
         event.setManager(account);
@@ -389,7 +945,7 @@ public class EventControllerTests extends BaseControllerTest {
             createAccount();
         }
 
-        ResultActions perform = mockMvc.perform(post("/oauth/token")
+        ResultActions perform = performAsync(post("/oauth/token")
                                             .with(httpBasic(appProperties.getClientId(), appProperties.getClientSecret()))
                                             .param("username", appProperties.getUserUsername())
                                             .param("password", appProperties.getUserPassword())
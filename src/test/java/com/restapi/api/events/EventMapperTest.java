@@ -0,0 +1,73 @@
+package com.restapi.api.events;
+
+import com.restapi.api.account.Account;
+import org.junit.Test;
+import org.modelmapper.ModelMapper;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EventMapperTest {
+
+    private final EventMapper directEventMapper = new DirectEventMapper();
+
+    private final EventMapper modelMapperEventMapper = new ModelMapperEventMapper(new ModelMapper());
+
+    @Test
+    public void toEvent() {
+        // Given
+        EventDto eventDto = buildEventDto();
+
+        // When
+        Event event = directEventMapper.toEvent(eventDto);
+
+        // Then
+        assertThat(event).usingRecursiveComparison()
+                .isEqualTo(modelMapperEventMapper.toEvent(eventDto));
+        assertThat(event.getEventStatus()).isEqualTo(EventStatus.DRAFT);
+    }
+
+    @Test
+    public void update() {
+        // Given
+        EventDto eventDto = buildEventDto();
+        Account manager = Account.builder().id(1).build();
+        Event event = Event.builder()
+                .id(10)
+                .version(3L)
+                .name("before")
+                .manager(manager)
+                .eventStatus(EventStatus.PUBLISHED)
+                .build();
+
+        // When
+        directEventMapper.update(eventDto, event);
+
+        // Then
+        assertThat(event.getId()).isEqualTo(10);
+        assertThat(event.getVersion()).isEqualTo(3L);
+        assertThat(event.getManager()).isEqualTo(manager);
+        assertThat(event.getEventStatus()).isEqualTo(EventStatus.PUBLISHED);
+        assertThat(event.getName()).isEqualTo(eventDto.getName());
+        assertThat(event.getLocation()).isEqualTo(eventDto.getLocation());
+        assertThat(event.getEndEventDateTime()).isEqualTo(eventDto.getEndEventDateTime());
+        assertThat(event.getLimitOfEnrollment()).isEqualTo(eventDto.getLimitOfEnrollment());
+    }
+
+    private EventDto buildEventDto() {
+        return EventDto.builder()
+                .name("Spring")
+                .description("REST API Development with Spring")
+                .beginEnrollmentDateTime(LocalDateTime.of(2018,11, 23, 14, 21))
+                .closeEnrollmentDateTime(LocalDateTime.of(2018,11, 24, 14, 21))
+                .beginEventDateTime(LocalDateTime.of(2018, 11, 25, 14, 21))
+                .endEventDateTime(LocalDateTime.of(2018, 11, 26, 14, 21))
+                .basePrice(100)
+                .maxPrice(200)
+                .limitOfEnrollment(100)
+                .location("강남역 D2 스타텁 팩토리")
+                .build();
+    }
+
+}
@@ -0,0 +1,102 @@
+package com.restapi.api.events;
+
+import org.junit.Test;
+
+import javax.persistence.EntityManager;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class EventSearchIndexTest {
+
+    @Test
+    public void tokenize() {
+        assertThat(EventSearchIndex.tokenize("Spring REST API 스프링은 좋다"))
+                .containsExactly("spring", "rest", "api", "스프", "프링", "링은", "좋다");
+        assertThat(EventSearchIndex.tokenize("스프링Boot2 세미나")).containsExactly("스프", "프링", "boot2", "세미", "미나");
+        assertThat(EventSearchIndex.tokenize(null)).isEmpty();
+        assertThat(EventSearchIndex.indexTokens("스프링 세미나"))
+                .containsExactly("스프", "프링", "스", "프", "링", "세미", "미나", "세", "미", "나");
+    }
+
+    @Test
+    public void searchSingleSyllable() {
+        // Given
+        EventSearchIndex index = new EventSearchIndex();
+        index.index(event(1, "봄 세미나", "스프링"));
+        index.index(event(2, "Kotlin", "coroutines"));
+
+        // When & Then
+        assertThat(index.search("봄", 10)).containsExactly(1);
+        assertThat(index.search("세", 10)).containsExactly(1);
+    }
+
+    @Test
+    public void rebuildKeepsUpdatesMadeWhileRebuilding() {
+        // Given - DB 스냅샷을 읽는 도중에 이벤트 1 이 다른 이름으로 저장된다.
+        EventSearchIndex index = new EventSearchIndex();
+        index.eventRepository = mock(EventRepository.class);
+        index.entityManager = mock(EntityManager.class);
+        Event updated = event(1, "Kotlin", "coroutines");
+        when(index.eventRepository.streamAll()).thenReturn(Stream.of(event(1, "Spring", "REST API"), event(2, "Java", "JPA"))
+                .peek(event -> {
+                    if (event.getId() == 2) {
+                        index.index(updated);
+                    }
+                }));
+
+        // When
+        index.rebuild();
+
+        // Then
+        assertThat(index.search("kotlin", 10)).containsExactly(1);
+        assertThat(index.search("spring", 10)).isEmpty();
+        assertThat(index.search("java", 10)).containsExactly(2);
+
+        index.index(event(2, "Scala", "JPA"));
+        assertThat(index.search("scala", 10)).containsExactly(2);
+    }
+
+    @Test
+    public void searchRanksNameOverDescription() {
+        // Given
+        EventSearchIndex index = new EventSearchIndex();
+        index.index(event(1, "Java 세미나", "스프링 이야기도 합니다"));
+        index.index(event(2, "스프링 부트 세미나", "REST API Development"));
+        index.index(event(3, "Kotlin", "coroutines"));
+
+        // When & Then
+        assertThat(index.search("스프링", 10)).containsExactly(2, 1);
+        assertThat(index.search("스프링 세미나", 10)).containsExactly(2, 1);
+        assertThat(index.search("rest", 10)).containsExactly(2);
+        assertThat(index.search("python", 10)).isEmpty();
+        assertThat(index.search("  ", 10)).isEmpty();
+    }
+
+    @Test
+    public void reindexReplacesOldTokens() {
+        // Given
+        EventSearchIndex index = new EventSearchIndex();
+        Event event = event(1, "Spring", "REST API");
+        index.index(event);
+
+        // When
+        event.setName("Kotlin");
+        index.index(event);
+
+        // Then
+        assertThat(index.search("spring", 10)).isEmpty();
+        assertThat(index.search("kotlin", 10)).containsExactly(1);
+    }
+
+    private Event event(int id, String name, String description) {
+        return Event.builder()
+                .id(id)
+                .name(name)
+                .description(description)
+                .build();
+    }
+
+}
@@ -0,0 +1,122 @@
+package com.restapi.api.events;
+
+import com.restapi.api.common.BaseControllerTest;
+import com.restapi.api.common.TestDescription;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EventStatusSchedulerTest extends BaseControllerTest {
+
+    @Autowired
+    EventStatusScheduler eventStatusScheduler;
+
+    @Autowired
+    EventService eventService;
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    EnrollmentRepository enrollmentRepository;
+
+    @Before
+    public void setUp() {
+        this.enrollmentRepository.deleteAll();
+        this.eventRepository.deleteAll();
+    }
+
+    @Test
+    @TestDescription("신청 시작 시각이 되면 공개 이벤트를 BEGAN_ENROLLMENT 로 바꾸는 테스트")
+    public void beginEnrollmentWhenDeadlinePasses() throws Exception {
+        // Given
+        Event soon = this.eventService.saveEvent(event(LocalDateTime.now().plusSeconds(1)));
+        Event later = this.eventService.saveEvent(event(LocalDateTime.now().plusHours(1)));
+        Long version = soon.getVersion();
+
+        // When
+        Event updated = awaitStatus(soon.getId(), EventStatus.BEGAN_ENROLLMENT);
+
+        // Then
+        assertThat(updated.getEventStatus()).isEqualTo(EventStatus.BEGAN_ENROLLMENT);
+        assertThat(updated.getVersion()).isGreaterThan(version);
+        assertThat(this.eventService.findEvent(soon.getId()).get().getEventStatus()).isEqualTo(EventStatus.BEGAN_ENROLLMENT);
+        assertThat(this.eventRepository.findById(later.getId()).get().getEventStatus()).isEqualTo(EventStatus.PUBLISHED);
+    }
+
+    @Test
+    @TestDescription("이미 신청 시작 시각이 지난 이벤트는 저장할 때 바로 바꾸는 테스트")
+    public void beginEnrollmentOnSaveWhenAlreadyDue() {
+        // When
+        Event event = this.eventService.saveEvent(event(LocalDateTime.now().minusMinutes(1)));
+
+        // Then
+        assertThat(event.getEventStatus()).isEqualTo(EventStatus.BEGAN_ENROLLMENT);
+    }
+
+    @Test
+    @TestDescription("시작할 때 DB 에서 지난 이벤트를 바꾸고 남은 시각을 다시 거는 테스트")
+    public void rearmFromDatabase() {
+        // Given - 스케줄러를 거치지 않고 저장한다.
+        Event missed = this.eventRepository.save(event(LocalDateTime.now().minusMinutes(1)));
+        Event upcoming = this.eventRepository.save(event(LocalDateTime.now().plusHours(1)));
+        int pending = this.eventStatusScheduler.pendingCount();
+
+        // When
+        this.eventStatusScheduler.rearm();
+
+        // Then
+        assertThat(this.eventRepository.findById(missed.getId()).get().getEventStatus()).isEqualTo(EventStatus.BEGAN_ENROLLMENT);
+        assertThat(this.eventRepository.findById(upcoming.getId()).get().getEventStatus()).isEqualTo(EventStatus.PUBLISHED);
+        assertThat(this.eventStatusScheduler.pendingCount()).isEqualTo(pending + 1);
+    }
+
+    @Test
+    @TestDescription("같은 이벤트를 다시 저장하면 시각을 바꾸고, 공개를 취소하면 빼는 테스트")
+    public void rescheduleReplacesDeadline() {
+        // Given
+        int pending = this.eventStatusScheduler.pendingCount();
+        Event event = this.eventService.saveEvent(event(LocalDateTime.now().plusHours(1)));
+
+        // When
+        for (int i = 2; i <= 5; i++) {
+            event.setBeginEnrollmentDateTime(LocalDateTime.now().plusHours(i));
+            event = this.eventService.saveEvent(event);
+        }
+
+        // Then
+        assertThat(this.eventStatusScheduler.pendingCount()).isEqualTo(pending + 1);
+
+        event.setEventStatus(EventStatus.DRAFT);
+        this.eventService.saveEvent(event);
+        assertThat(this.eventStatusScheduler.pendingCount()).isEqualTo(pending);
+    }
+
+    private Event awaitStatus(Integer id, EventStatus status) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        Event event = this.eventRepository.findById(id).get();
+        while (event.getEventStatus() != status && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            event = this.eventRepository.findById(id).get();
+        }
+        return event;
+    }
+
+    private Event event(LocalDateTime beginEnrollmentDateTime) {
+        return Event.builder()
+                .name("scheduled event")
+                .description("test event")
+                .beginEnrollmentDateTime(beginEnrollmentDateTime)
+                .closeEnrollmentDateTime(beginEnrollmentDateTime.plusDays(1))
+                .beginEventDateTime(beginEnrollmentDateTime.plusDays(2))
+                .endEventDateTime(beginEnrollmentDateTime.plusDays(3))
+                .limitOfEnrollment(100)
+                .eventStatus(EventStatus.PUBLISHED)
+                .build();
+    }
+
+}
@@ -5,6 +5,8 @@ import junitparams.Parameters;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 
+import java.time.LocalDateTime;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 
@@ -85,4 +87,30 @@ public class EventTest {
         };
     }
 
+    @Test
+    @Parameters
+    public void testUpdateStatus(EventStatus status, int minutesUntilEnrollment, EventStatus expected) {
+        // Given
+        LocalDateTime now = LocalDateTime.of(2018, 11, 23, 14, 21);
+        Event event = Event.builder()
+                .eventStatus(status)
+                .beginEnrollmentDateTime(now.plusMinutes(minutesUntilEnrollment))
+                .build();
+
+        // When
+        event.updateStatus(now);
+
+        // Then
+        assertThat(event.getEventStatus()).isEqualTo(expected);
+    }
+
+    private Object[] parametersForTestUpdateStatus() {
+        return new Object[] {
+                new Object[] {EventStatus.PUBLISHED, -1, EventStatus.BEGAN_ENROLLMENT},
+                new Object[] {EventStatus.PUBLISHED, 0, EventStatus.BEGAN_ENROLLMENT},
+                new Object[] {EventStatus.PUBLISHED, 1, EventStatus.PUBLISHED},
+                new Object[] {EventStatus.DRAFT, -1, EventStatus.DRAFT}
+        };
+    }
+
 }
\ No newline at end of file
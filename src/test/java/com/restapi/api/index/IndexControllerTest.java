@@ -1,7 +1,12 @@
 package com.restapi.api.index;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.restapi.api.common.BaseControllerTest;
 import com.restapi.api.common.RestDocsConfiguration;
+import com.restapi.api.common.TestDescription;
+import com.restapi.api.configs.BinaryFormatConfig;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,7 +18,9 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.web.servlet.MockMvc;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -26,4 +33,16 @@ public class IndexControllerTest extends BaseControllerTest {
                 .andExpect(jsonPath("_links.events").exists());
     }
 
+    @Test
+    @TestDescription("Smile 로 요청하면 같은 HAL 링크를 바이너리로 응답받기")
+    public void indexAsSmile() throws Exception {
+        byte[] content = mockMvc.perform(get("/api/").accept(BinaryFormatConfig.SMILE_VALUE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(BinaryFormatConfig.SMILE_VALUE))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode body = new ObjectMapper(new SmileFactory()).readTree(content);
+        assertThat(body.at("/_links/events/href").asText()).endsWith("/api/events");
+    }
+
 }
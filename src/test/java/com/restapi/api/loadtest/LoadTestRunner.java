@@ -0,0 +1,327 @@
+package com.restapi.api.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restapi.api.account.Account;
+import com.restapi.api.account.AccountRole;
+import com.restapi.api.account.AccountService;
+import com.restapi.api.common.AppProperties;
+import com.restapi.api.common.StandaloneApplication;
+import com.restapi.api.events.Event;
+import com.restapi.api.events.EventDto;
+import com.restapi.api.events.EventService;
+import com.restapi.api.events.EventStatus;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+// mvn -Ploadtest test 로 실행한다. test 프로필(H2)로 애플리케이션을 띄우고 계정과 이벤트를 채운 뒤,
+// 스레드마다 계정 하나로 토큰 발급, 생성, 목록, 조회, 수정을 섞어서 보내고 지연 시간 분포와 처리량을 출력한다.
+// 설정은 시스템 프로퍼티 loadtest.accounts, loadtest.events, loadtest.threads,
+// loadtest.warmup-seconds, loadtest.duration-seconds 로 바꿀 수 있다.
+public class LoadTestRunner {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    enum Operation {
+        TOKEN(5), CREATE(10), LIST(40), GET(35), UPDATE(10);
+
+        final int weight;
+
+        Operation(int weight) {
+            this.weight = weight;
+        }
+
+        static Operation pick(int roll) {
+            for (Operation operation : values()) {
+                if (roll < operation.weight) {
+                    return operation;
+                }
+                roll -= operation.weight;
+            }
+            return GET;
+        }
+    }
+
+    private final int accountCount = Integer.getInteger("loadtest.accounts", 50);
+    private final int eventCount = Integer.getInteger("loadtest.events", 1000);
+    private final int threadCount = Integer.getInteger("loadtest.threads", 16);
+    private final int warmupSeconds = Integer.getInteger("loadtest.warmup-seconds", 5);
+    private final int durationSeconds = Integer.getInteger("loadtest.duration-seconds", 30);
+
+    private final Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+    private final Map<Operation, AtomicLong> errors = new EnumMap<>(Operation.class);
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+    private ConfigurableApplicationContext context;
+    private ObjectMapper objectMapper;
+    private AppProperties appProperties;
+    private String baseUri;
+    private List<String> emails;
+    private List<List<Integer>> eventIdsByAccount;
+
+    public static void main(String[] args) throws Exception {
+        new LoadTestRunner().run();
+    }
+
+    void run() throws Exception {
+        for (Operation operation : Operation.values()) {
+            this.histograms.put(operation, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3));
+            this.errors.put(operation, new AtomicLong());
+        }
+
+        start();
+        try {
+            seed();
+
+            System.out.printf("Warming up for %ds with %d threads%n", this.warmupSeconds, this.threadCount);
+            drive(this.warmupSeconds);
+            this.histograms.values().forEach(Histogram::reset);
+            this.errors.values().forEach(count -> count.set(0));
+
+            System.out.printf("Measuring for %ds with %d threads%n", this.durationSeconds, this.threadCount);
+            long startedAt = System.nanoTime();
+            drive(this.durationSeconds);
+            report(System.nanoTime() - startedAt);
+        } finally {
+            this.context.close();
+        }
+    }
+
+    private void start() {
+        this.context = StandaloneApplication.start();
+        this.objectMapper = this.context.getBean(ObjectMapper.class);
+        this.appProperties = this.context.getBean(AppProperties.class);
+        this.baseUri = "http://localhost:" + this.context.getEnvironment().getProperty("local.server.port");
+    }
+
+    // 이벤트는 계정에 골고루 나눠서 만들고, 각 스레드는 자기 계정이 관리하는 이벤트만 수정한다.
+    private void seed() {
+        AccountService accountService = this.context.getBean(AccountService.class);
+        EventService eventService = this.context.getBean(EventService.class);
+
+        List<Account> accounts = IntStream.range(0, this.accountCount)
+                .mapToObj(i -> accountService.saveAccount(Account.builder()
+                        .email("loadtest" + i + "@email.com")
+                        .password("loadtest")
+                        .roles(Set.of(AccountRole.USER))
+                        .build()))
+                .collect(Collectors.toList());
+        this.emails = accounts.stream().map(Account::getEmail).collect(Collectors.toList());
+        this.eventIdsByAccount = accounts.stream().map(account -> new ArrayList<Integer>()).collect(Collectors.toList());
+
+        for (int from = 0; from < this.eventCount; from += 500) {
+            int first = from;
+            List<Event> events = IntStream.range(first, Math.min(first + 500, this.eventCount))
+                    .mapToObj(i -> {
+                        Event event = event(i);
+                        event.setManager(accounts.get(i % accounts.size()));
+                        return event;
+                    })
+                    .collect(Collectors.toList());
+            List<Event> saved = eventService.saveEvents(events);
+            for (int i = 0; i < saved.size(); i++) {
+                this.eventIdsByAccount.get((first + i) % accounts.size()).add(saved.get(i).getId());
+            }
+        }
+        System.out.printf("Seeded %d accounts and %d events%n", this.accountCount, this.eventCount);
+    }
+
+    private void drive(int seconds) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        ExecutorService executor = Executors.newFixedThreadPool(this.threadCount);
+        for (int i = 0; i < this.threadCount; i++) {
+            int accountIndex = i % this.accountCount;
+            executor.execute(() -> new Worker(accountIndex).run(deadline));
+        }
+        executor.shutdown();
+        executor.awaitTermination(seconds + 60, TimeUnit.SECONDS);
+    }
+
+    private void report(long elapsedNanos) {
+        double elapsedSeconds = elapsedNanos / 1e9;
+        Histogram total = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+
+        System.out.printf("%n%-8s %10s %10s %8s %10s %10s %10s %10s%n",
+                "op", "count", "req/s", "errors", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)");
+        this.histograms.forEach((operation, histogram) -> {
+            total.add(histogram);
+            print(operation.name(), histogram, this.errors.get(operation).get(), elapsedSeconds);
+        });
+        print("TOTAL", total, this.errors.values().stream().mapToLong(AtomicLong::get).sum(), elapsedSeconds);
+    }
+
+    private static void print(String name, Histogram histogram, long errors, double elapsedSeconds) {
+        System.out.printf("%-8s %10d %10.1f %8d %10.2f %10.2f %10.2f %10.2f%n",
+                name,
+                histogram.getTotalCount(),
+                histogram.getTotalCount() / elapsedSeconds,
+                errors,
+                histogram.getValueAtPercentile(50) / 1000.0,
+                histogram.getValueAtPercentile(99) / 1000.0,
+                histogram.getValueAtPercentile(99.9) / 1000.0,
+                histogram.getMaxValue() / 1000.0);
+    }
+
+    private static Event event(int index) {
+        return Event.builder()
+                .name("load test event " + index)
+                .description("REST API Development with Spring")
+                .beginEnrollmentDateTime(LocalDateTime.of(2018, 11, 23, 14, 21))
+                .closeEnrollmentDateTime(LocalDateTime.of(2018, 11, 24, 14, 21))
+                .beginEventDateTime(LocalDateTime.of(2018, 11, 25, 14, 21))
+                .endEventDateTime(LocalDateTime.of(2018, 11, 26, 14, 21))
+                .basePrice(100)
+                .maxPrice(200)
+                .limitOfEnrollment(100)
+                .location("강남역 D2 스타텁 팩토리")
+                .offline(true)
+                .eventStatus(EventStatus.DRAFT)
+                .build();
+    }
+
+    private static EventDto eventDto(int index) {
+        return EventDto.builder()
+                .name("load test event " + index)
+                .description("REST API Development with Spring")
+                .beginEnrollmentDateTime(LocalDateTime.of(2018, 11, 23, 14, 21))
+                .closeEnrollmentDateTime(LocalDateTime.of(2018, 11, 24, 14, 21))
+                .beginEventDateTime(LocalDateTime.of(2018, 11, 25, 14, 21))
+                .endEventDateTime(LocalDateTime.of(2018, 11, 26, 14, 21))
+                .basePrice(100)
+                .maxPrice(200)
+                .limitOfEnrollment(100)
+                .location("강남역 D2 스타텁 팩토리")
+                .build();
+    }
+
+    private class Worker {
+
+        private final int accountIndex;
+        private final List<Integer> eventIds;
+        private String accessToken;
+
+        Worker(int accountIndex) {
+            this.accountIndex = accountIndex;
+            this.eventIds = new ArrayList<>(eventIdsByAccount.get(accountIndex));
+        }
+
+        void run(long deadline) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            while (System.nanoTime() < deadline) {
+                Operation operation = this.accessToken == null ? Operation.TOKEN : Operation.pick(random.nextInt(100));
+                if (operation == Operation.UPDATE && this.eventIds.isEmpty()) {
+                    operation = Operation.CREATE;
+                }
+
+                long start = System.nanoTime();
+                boolean ok;
+                try {
+                    ok = execute(operation, random);
+                } catch (Exception e) {
+                    ok = false;
+                }
+                histograms.get(operation).recordValue(Math.min(HIGHEST_TRACKABLE_MICROS,
+                        TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start)));
+                if (!ok) {
+                    errors.get(operation).incrementAndGet();
+                }
+            }
+        }
+
+        private boolean execute(Operation operation, ThreadLocalRandom random) throws Exception {
+            switch (operation) {
+                case TOKEN:
+                    return token();
+                case CREATE:
+                    return create(random.nextInt(1_000_000));
+                case LIST:
+                    return send(HttpRequest.newBuilder(uri("/api/events?page=" + random.nextInt(10) + "&size=20&sort=id,desc"))
+                            .header(HttpHeaders.ACCEPT, MediaTypes.HAL_JSON_VALUE)
+                            .GET()).statusCode() == 200;
+                case GET:
+                    return send(HttpRequest.newBuilder(uri("/api/events/" + randomEventId(random)))
+                            .header(HttpHeaders.ACCEPT, MediaTypes.HAL_JSON_VALUE)
+                            .GET()).statusCode() == 200;
+                case UPDATE:
+                    Integer id = this.eventIds.get(random.nextInt(this.eventIds.size()));
+                    return send(HttpRequest.newBuilder(uri("/api/events/" + id))
+                            .header(HttpHeaders.AUTHORIZATION, "bearer " + this.accessToken)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .PUT(json(eventDto(random.nextInt(1_000_000))))).statusCode() == 200;
+                default:
+                    throw new IllegalStateException(operation.name());
+            }
+        }
+
+        private boolean token() throws Exception {
+            String credentials = appProperties.getClientId() + ":" + appProperties.getClientSecret();
+            String form = "grant_type=password&username=" + emails.get(this.accountIndex) + "&password=loadtest";
+            HttpResponse<String> response = send(HttpRequest.newBuilder(uri("/oauth/token"))
+                    .header(HttpHeaders.AUTHORIZATION, "Basic " + Base64.getEncoder().encodeToString(credentials.getBytes(StandardCharsets.UTF_8)))
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_FORM_URLENCODED_VALUE)
+                    .POST(HttpRequest.BodyPublishers.ofString(form)));
+            if (response.statusCode() != 200) {
+                return false;
+            }
+            this.accessToken = objectMapper.readTree(response.body()).get("access_token").asText();
+            return true;
+        }
+
+        private boolean create(int index) throws Exception {
+            HttpResponse<String> response = send(HttpRequest.newBuilder(uri("/api/events"))
+                    .header(HttpHeaders.AUTHORIZATION, "bearer " + this.accessToken)
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .header(HttpHeaders.ACCEPT, MediaTypes.HAL_JSON_VALUE)
+                    .POST(json(eventDto(index))));
+            if (response.statusCode() != 201) {
+                return false;
+            }
+            JsonNode id = objectMapper.readTree(response.body()).get("id");
+            this.eventIds.add(id.asInt());
+            return true;
+        }
+
+        private Integer randomEventId(ThreadLocalRandom random) {
+            List<Integer> ids = eventIdsByAccount.get(random.nextInt(eventIdsByAccount.size()));
+            return ids.isEmpty() ? 1 : ids.get(random.nextInt(ids.size()));
+        }
+
+        private HttpRequest.BodyPublisher json(Object body) throws Exception {
+            return HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));
+        }
+
+        private HttpResponse<String> send(HttpRequest.Builder request) throws Exception {
+            return httpClient.send(request.timeout(Duration.ofSeconds(30)).build(), HttpResponse.BodyHandlers.ofString());
+        }
+
+        private URI uri(String path) {
+            return URI.create(baseUri + path);
+        }
+    }
+
+}
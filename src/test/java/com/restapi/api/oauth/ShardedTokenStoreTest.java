@@ -0,0 +1,142 @@
+package com.restapi.api.oauth;
+
+import org.junit.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.oauth2.common.DefaultExpiringOAuth2RefreshToken;
+import org.springframework.security.oauth2.common.DefaultOAuth2AccessToken;
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+import org.springframework.security.oauth2.provider.OAuth2Request;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ShardedTokenStoreTest {
+
+    private static final long HOUR = TimeUnit.HOURS.toMillis(1);
+
+    @Test
+    public void storeAndRead() {
+        // Given
+        ShardedTokenStore tokenStore = new ShardedTokenStore(4, 100);
+        OAuth2Authentication authentication = authentication("user@email.com");
+        DefaultOAuth2AccessToken accessToken = accessToken("access", HOUR);
+        DefaultExpiringOAuth2RefreshToken refreshToken = refreshToken("refresh", HOUR);
+        accessToken.setRefreshToken(refreshToken);
+
+        // When
+        tokenStore.storeAccessToken(accessToken, authentication);
+        tokenStore.storeRefreshToken(refreshToken, authentication);
+
+        // Then
+        assertThat(tokenStore.readAccessToken("access")).isEqualTo(accessToken);
+        assertThat(tokenStore.readAuthentication("access")).isEqualTo(authentication);
+        assertThat(tokenStore.getAccessToken(authentication)).isEqualTo(accessToken);
+        assertThat(tokenStore.readRefreshToken("refresh")).isEqualTo(refreshToken);
+        assertThat(tokenStore.readAuthenticationForRefreshToken(refreshToken)).isEqualTo(authentication);
+        assertThat(tokenStore.findTokensByClientIdAndUserName("myApp", "user@email.com")).containsExactly(accessToken);
+        assertThat(tokenStore.accessTokenCount()).isEqualTo(1);
+        assertThat(tokenStore.refreshTokenCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void removeAccessTokenUsingRefreshToken() {
+        // Given
+        ShardedTokenStore tokenStore = new ShardedTokenStore(4, 100);
+        OAuth2Authentication authentication = authentication("user@email.com");
+        DefaultOAuth2AccessToken accessToken = accessToken("access", HOUR);
+        DefaultExpiringOAuth2RefreshToken refreshToken = refreshToken("refresh", HOUR);
+        accessToken.setRefreshToken(refreshToken);
+        tokenStore.storeAccessToken(accessToken, authentication);
+        tokenStore.storeRefreshToken(refreshToken, authentication);
+
+        // When
+        tokenStore.removeAccessTokenUsingRefreshToken(refreshToken);
+
+        // Then
+        assertThat(tokenStore.readAccessToken("access")).isNull();
+        assertThat(tokenStore.getAccessToken(authentication)).isNull();
+        assertThat(tokenStore.readRefreshToken("refresh")).isNotNull();
+        assertThat(tokenStore.accessTokenCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void expiredTokensArePurgedOnWrite() {
+        // Given
+        ShardedTokenStore tokenStore = new ShardedTokenStore(1, 100);
+        OAuth2Authentication expiredAuthentication = authentication("expired@email.com");
+        tokenStore.storeAccessToken(accessToken("expired", -HOUR), expiredAuthentication);
+
+        // When
+        tokenStore.storeAccessToken(accessToken("live", HOUR), authentication("user@email.com"));
+
+        // Then
+        assertThat(tokenStore.readAccessToken("expired")).isNull();
+        assertThat(tokenStore.getAccessToken(expiredAuthentication)).isNull();
+        assertThat(tokenStore.readAccessToken("live")).isNotNull();
+        assertThat(tokenStore.accessTokenCount()).isEqualTo(1);
+        assertThat(tokenStore.evictionCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void evictSoonestExpiringTokenOverLimit() {
+        // Given
+        ShardedTokenStore tokenStore = new ShardedTokenStore(1, 2);
+        tokenStore.storeAccessToken(accessToken("two-hours", 2 * HOUR), authentication("a@email.com"));
+        tokenStore.storeAccessToken(accessToken("one-hour", HOUR), authentication("b@email.com"));
+
+        // When
+        tokenStore.storeAccessToken(accessToken("three-hours", 3 * HOUR), authentication("c@email.com"));
+
+        // Then
+        assertThat(tokenStore.readAccessToken("one-hour")).isNull();
+        assertThat(tokenStore.readAccessToken("two-hours")).isNotNull();
+        assertThat(tokenStore.readAccessToken("three-hours")).isNotNull();
+        assertThat(tokenStore.accessTokenCount()).isEqualTo(2);
+        assertThat(tokenStore.evictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void concurrentStore() throws Exception {
+        // Given
+        ShardedTokenStore tokenStore = new ShardedTokenStore(16, 100_000);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // When
+        IntStream.range(0, 8).forEach(thread -> executor.execute(() ->
+                IntStream.range(0, 1000).forEach(i -> {
+                    String name = thread + "-" + i;
+                    tokenStore.storeAccessToken(accessToken(name, HOUR), authentication(name + "@email.com"));
+                })));
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        // Then
+        assertThat(tokenStore.accessTokenCount()).isEqualTo(8000);
+        assertThat(tokenStore.findTokensByClientId("myApp")).hasSize(8000);
+    }
+
+    private OAuth2Authentication authentication(String username) {
+        OAuth2Request request = new OAuth2Request(Map.of(), "myApp", List.of(), true, Set.of("read", "write"),
+                Set.of(), null, Set.of(), Map.of());
+        return new OAuth2Authentication(request, new UsernamePasswordAuthenticationToken(username, null, List.of()));
+    }
+
+    private DefaultOAuth2AccessToken accessToken(String value, long expiresInMillis) {
+        DefaultOAuth2AccessToken token = new DefaultOAuth2AccessToken(value);
+        token.setExpiration(new Date(System.currentTimeMillis() + expiresInMillis));
+        return token;
+    }
+
+    private DefaultExpiringOAuth2RefreshToken refreshToken(String value, long expiresInMillis) {
+        return new DefaultExpiringOAuth2RefreshToken(value, new Date(System.currentTimeMillis() + expiresInMillis));
+    }
+
+}